@@ -1,18 +1,22 @@
 package com.incarcloud.rooster.datapack;
 
+import com.incarcloud.rooster.util.LanduChecksumUtil;
 import com.incarcloud.rooster.util.LanduDataClassifyUtil;
 import com.incarcloud.rooster.util.LanduDataPackUtil;
+import com.incarcloud.rooster.util.LanduDateUtil;
+import com.incarcloud.rooster.util.LanduIdentityCache;
+import com.incarcloud.rooster.util.LanduSubscription;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.UnsupportedEncodingException;
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 
 /**
  * LANDU Parser.
@@ -20,7 +24,7 @@ import java.util.regex.Pattern;
  * @author Aaric
  * @since 2.0
  */
-public class DataParserLandu implements IDataParser {
+public class DataParserLandu implements ILanduDataParser {
 
     private static Logger _logger = LoggerFactory.getLogger(DataParserLandu.class);
 
@@ -40,14 +44,54 @@ public class DataParserLandu implements IDataParser {
     }
 
     /**
-     * 数据包准许最大容量2M
+     * 本解析器切分数据包的校验标记
      */
-    private static final int DISCARDS_MAX_LENGTH = 1024 * 1024 * 2;
+    private static final Object VERIFIED_TOKEN = new Object();
 
     /**
-     * vin码的正则表达式
+     * 回复数据包初始容量(0x1603回复约70个字节，其它回复13个字节)
      */
-    private static final String VIN_REG = "^[0-9A-Z]{17}$";
+    private static final int RESPONSE_INITIAL_CAPACITY = 128;
+
+    /**
+     * 极值数据是否按列存储(LanduPeakBatch)，默认为否
+     */
+    private boolean peakBatch;
+
+    /**
+     * 命令字订阅，默认订阅全部命令字
+     */
+    private LanduSubscription commandSubscription = LanduSubscription.ALL;
+
+    /**
+     * 设置极值数据是否按列存储<br>
+     *     开启后0x1601行驶数据、0x1607冻结帧和0x1608怠速数据的极值输出为LanduPeakBatch，
+     *     每个数据包只创建固定数量的对象，适合大量冻结帧集中上传的场景。
+     *     父类的极值列表在第一次调用getPeakList时创建，按字段序列化的调用者需要先调用getPeakList
+     *
+     * @param peakBatch 是否按列存储
+     */
+    public void setPeakBatch(boolean peakBatch) {
+        this.peakBatch = peakBatch;
+    }
+
+    public boolean isPeakBatch() {
+        return peakBatch;
+    }
+
+    /**
+     * 设置命令字订阅<br>
+     *     未订阅的命令字只切分和回复，不解析数据包内容
+     *
+     * @param commandSubscription 命令字订阅，null表示订阅全部命令字
+     */
+    public void setCommandSubscription(LanduSubscription commandSubscription) {
+        this.commandSubscription = null != commandSubscription ? commandSubscription : LanduSubscription.ALL;
+    }
+
+    public LanduSubscription getCommandSubscription() {
+        return commandSubscription;
+    }
 
     /**
      * 验证数据包
@@ -68,11 +112,8 @@ public class DataParserLandu implements IDataParser {
                         // 长度 = 总长度 - 2(2字节标志位)
                         if(length == (total - 2)) {
                             // 4.校验和校验
-                            int sum = 0;
+                            int sum = LanduChecksumUtil.sum(bytes, 2, total - 2);
                             int sumCheck = (bytes[total-2] & 0xFF) << 8 | (bytes[total-1] & 0xFF);
-                            for (int i = 2; i < total - 2; i++) {
-                                sum += (bytes[i] & 0xFF);
-                            }
                             // 校验
                             if(sum == sumCheck) {
                                 return true;
@@ -87,103 +128,92 @@ public class DataParserLandu implements IDataParser {
 
     @Override
     public List<DataPack> extract(ByteBuf buffer){
-        /**
-         * ## LANDU数据包格式 ##
-         * 0,1: 数据包标志(AA55  2个字节)
-         * 2,3: 数据包长度，包括从【数据包长度】起至【校验和】止的所有字节数量，不是整个包的长度(2个字节)
-         * 4,5: 数据包长度校验(数据包长度取反   2个字节)
-         * 6: 数据包ID  (1个字节)
-         * 7: 保留字节(协议格式版本, v2.05-0x02, v3.08-0x05     1个字节)
-         * ...: 数据内容(其长度为【数据包长度】– 4 – 2   不定长度)
-         * 最后2字节: 校验和(【数据包长度】开始至全部【数据内容】结束止的所有字节产累加之和)
-         */
-        DataPack dataPack;
-        List<DataPack> dataPackList = new ArrayList<>();
-
-        // 长度大于2M的数据包直接抛弃(恶意数据)
-        if(DISCARDS_MAX_LENGTH < buffer.readableBytes()) {
-            //System.out.println("clear");
-            buffer.clear();
-        }
+        // 无状态解析，未完整的数据包下次重新校验；流式切分，集中补发的大量数据不会整体丢弃；
+        // 不检查误判的数据包头：分段到达的数据包内容可能包含完整的数据帧(如0x1605透传数据)，需要时使用extract(buffer, framer)
+        return extract(buffer, new LanduFramer(LanduFramer.MAX_FRAME_LENGTH, true));
+    }
 
-        // 遍历
-        boolean skipFlag;
-        int offset, max, length, sum, sumCheck;
-        while(buffer.isReadable()) {
-            skipFlag = true;
-            offset = buffer.readerIndex();
-            max = buffer.writerIndex();
-            //System.out.printf("%d-%s: ", offset, ByteBufUtil.hexDump(new byte[]{buffer.getByte(offset)}));
-            // 一个包最小10个字节
-            if(10 < (max - offset)) {
-                // 判断数据包标志
-                if(0xAA == (buffer.getByte(offset) & 0xFF) && 0x55 == (buffer.getByte(offset + 1) & 0xFF)) {
-                    // 获取包长度并校验
-                    if(buffer.getByte(offset +2) == ~buffer.getByte(offset + 4)
-                            && buffer.getByte(offset + 3) == ~buffer.getByte(offset + 5)) {
-                        length = (buffer.getByte(offset + 2) & 0xFF) << 8 | (buffer.getByte(offset + 3) & 0xFF);
-                        //System.out.printf(" | length: %d", length);
-                        // 检验包是否完整(length + 2)
-                        if(length <= (max - offset - 2)) {
-                            // 检验校验和
-                            sum = 0;
-                            sumCheck = (buffer.getByte(offset + length) & 0xFF) << 8 | (buffer.getByte(offset + length + 1) & 0xFF);
-                            // 求和
-                            for (int i = offset + 2, n = offset + length; i < n; i++) {
-                                sum += (buffer.getByte(i) & 0xFF);
-                            }
-                            // 校验
-                            if(sum == sumCheck) {
-                                // DataPack
-                                //System.out.printf(" <DataPack> ");
-                                // 版本(第7个字节为协议格式版本)
-                                String version = null;
-                                switch (buffer.getByte(offset + 7)) {
-                                    case 0x02:
-                                        version = "2.05";
-                                        break;
-                                    case 0x05:
-                                        version = "3.08";
-                                        break;
-                                    default:
-                                        version = "unknown";
-                                }
+    /**
+     * 抽取出完整有效的数据包，数据包格式参考{@link LanduFramer}
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器，记录未完整数据包的状态
+     * @return
+     */
+    public List<DataPack> extract(ByteBuf buffer, LanduFramer framer){
+        List<DataPack> dataPackList = new ArrayList<>();
+        extract(buffer, framer, dataPackList);
+        return dataPackList;
+    }
 
-                                // 打包
-                                dataPack = new DataPack(PROTOCOL_GROUP, PROTOCOL_NAME, version);
-                                dataPack.setBuf(buffer.slice(offset, length + 2));
-                                dataPackList.add(dataPack);
+    /**
+     * 抽取出完整有效的数据包，添加到调用者提供的集合(可重复使用，避免每次分配新的List)<br>
+     *     数据包复制到独立的缓冲区，不引用累积缓冲区，并丢弃已读字节
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器，记录未完整数据包的状态
+     * @param dataPackList 数据包集合
+     * @return 抽取的数据包个数
+     */
+    @Override
+    public int extract(ByteBuf buffer, LanduFramer framer, Collection<DataPack> dataPackList){
+        int size = dataPackList.size();
+        framer.frame(buffer, (frameBuffer, offset, length) -> dataPackList.add(newDataPack(frameBuffer, offset, length, false)));
+        // 数据包已经复制，扔掉已读数据
+        buffer.discardSomeReadBytes();
+        return dataPackList.size() - size;
+    }
 
-                                // 跳跃(length+2)
-                                skipFlag = false;
-                                buffer.skipBytes(length + 2);
-                            }
-                            //System.out.printf("| sum: %d, sumCheck: %d ", sum, sumCheck);
-                        }else{
-                            //包长度不够，有以下两种情况
-                            // 1、可能是tcp拆包引起的半个包情况，直接跳出循环结束此次解析,等缓存区积累够了再解析
-                            // 2、包体里面含有 AA 55而且AA 55 后面的4个字节能通过数据包长度校验 导致解析出错,这种情况有可能会误伤后面的正常包，
-                            // 但这种情况概率极小，所以这里直接跳出循环结束此次解析，等缓存区积累够了再当成“正常包”解析，会在第二步解析不到数据直接丢弃
-                            break;
-                        }
-                    }
-                }
-            } else {
-                // 没有一个包的长度，跳出循环
-                break;
-            }
-            //System.out.println();
+    /**
+     * 抽取出完整有效的数据包，逐个交给调用者处理<br>
+     *     数据包引用累积缓冲区的切片(retainedSlice)，不复制数据，调用者使用完毕后调用DataPack.freeBuf()释放；
+     *     切片未释放前不会丢弃已读字节，由调用者(如Netty的ByteToMessageDecoder)在释放后丢弃
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器，记录未完整数据包的状态
+     * @param consumer 数据包处理
+     */
+    @Override
+    public void extract(ByteBuf buffer, LanduFramer framer, Consumer<DataPack> consumer){
+        framer.frame(buffer, (frameBuffer, offset, length) -> consumer.accept(newDataPack(frameBuffer, offset, length, true)));
+    }
 
-            // 不符合条件，向前跳跃1
-            if(skipFlag) {
-                buffer.skipBytes(1);
-            }
+    /**
+     * 打包(第7个字节为协议格式版本)
+     *
+     * @param frameBuffer 累积缓冲区
+     * @param offset 数据帧起始位置
+     * @param length 数据帧总长度
+     * @param retained true-引用累积缓冲区的切片(由调用者释放)，false-复制数据帧
+     * @return
+     */
+    private DataPack newDataPack(ByteBuf frameBuffer, int offset, int length, boolean retained){
+        LanduDataPack dataPack = new LanduDataPack(PROTOCOL_GROUP, PROTOCOL_NAME, getVersion(frameBuffer.getByte(offset + 7)));
+        if(retained){
+            dataPack.setVerifiedBuf(frameBuffer.retainedSlice(offset, length), VERIFIED_TOKEN);
+        } else {
+            byte[] frameBytes = new byte[length];
+            frameBuffer.getBytes(offset, frameBytes);
+            dataPack.setVerifiedBuf(Unpooled.wrappedBuffer(frameBytes), VERIFIED_TOKEN);
         }
+        return dataPack;
+    }
 
-        // 扔掉已读数据
-        buffer.discardSomeReadBytes();
-
-        return dataPackList;
+    /**
+     * 协议格式版本
+     *
+     * @param versionByte 保留字节(协议格式版本, v2.05-0x02, v3.08-0x05)
+     * @return
+     */
+    private static String getVersion(int versionByte) {
+        switch (versionByte) {
+            case 0x02:
+                return "2.05";
+            case 0x05:
+                return "3.08";
+            default:
+                return "unknown";
+        }
     }
 
     /**
@@ -191,121 +221,128 @@ public class DataParserLandu implements IDataParser {
      *
      * @param bytes 原始数据
      * @param responseCode 回复码
+     * @param allocator 内存分配器
      * @return
      */
-    private ByteBuf responseBytes(byte[] bytes, byte responseCode) throws UnsupportedEncodingException {
+    private ByteBuf responseBytes(byte[] bytes, byte responseCode, ByteBufAllocator allocator) throws UnsupportedEncodingException {
         // 初始化ByteBuf
         String defaultGBK = "GBK";
-        DateFormat defaultDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        ByteBuf buffer = Unpooled.buffer(1024);
-
-        // 1.数据包标志
-        buffer.writeBytes(new byte[]{bytes[0], bytes[1]});
-        // 2.数据包长度(预留空间)
-        buffer.writeShort(0x0000);
-        // 3.数据包长度校验(预留空间)
-        buffer.writeShort(0xFFFF);
-        // 4.数据包ID
-        buffer.writeByte(bytes[6]);
-        // 5.协议格式版本
-        buffer.writeByte(bytes[7]);
-        // 6.数据内容(命令字)
-        buffer.writeBytes(new byte[]{bytes[8], bytes[9]});
-
-        if(0x16 == bytes[8] && 0x03 == bytes[9]) {
-            /* 命令字：0x1603 */
-            // 7.回复内容
-            // 7.1 当前时刻时间戮（【STRING】YYYY-MM-DD hh:mm:ss）
-            //buffer.writeBytes("2017-08-04 15:50:00".getBytes(defaultCharsetGBK));
-            buffer.writeBytes(defaultDateFormat.format(Calendar.getInstance().getTime()).getBytes(defaultGBK));
-            buffer.writeByte(0x00); //end
-            // 7.2 执行动作值（【动作参数数量】+【恢复出厂设置序号】+【是否执行清码动作】）
-            buffer.writeByte(0x02); // 仅能取值 0x00 或 0x02,其它值非法
-            buffer.writeByte(0x00);
-            buffer.writeByte(0xFF);
-            // 7.3 车辆信息（【车辆信息参数数量】+【VID】+【品牌】+【系列】+【年款】+【排量】）
-            buffer.writeByte(0x00); // 仅可取值 0x00 或 0x05，其它值非法
-            // 7.4 上传数据网络配置（【网络配置数量】+【网络配置 1】+...+【网络配置 n】）
-            buffer.writeByte(0x00);
-            /*buffer.writeByte(0x05);
-            for (int i = 0; i < 5; i++) {
-                buffer.writeBytes(ip.getBytes(defaultCharsetGBK));
+        ByteBuf buffer = allocator.buffer(RESPONSE_INITIAL_CAPACITY);
+        try {
+            // 1.数据包标志
+            buffer.writeBytes(new byte[]{bytes[0], bytes[1]});
+            // 2.数据包长度(预留空间)
+            buffer.writeShort(0x0000);
+            // 3.数据包长度校验(预留空间)
+            buffer.writeShort(0xFFFF);
+            // 4.数据包ID
+            buffer.writeByte(bytes[6]);
+            // 5.协议格式版本
+            buffer.writeByte(bytes[7]);
+            // 6.数据内容(命令字)
+            buffer.writeBytes(new byte[]{bytes[8], bytes[9]});
+
+            if(0x16 == bytes[8] && 0x03 == bytes[9]) {
+                /* 命令字：0x1603 */
+                // 7.回复内容
+                // 7.1 当前时刻时间戮（【STRING】YYYY-MM-DD hh:mm:ss）
+                //buffer.writeBytes("2017-08-04 15:50:00".getBytes(defaultCharsetGBK));
+                LanduDateUtil.writeDate(buffer, System.currentTimeMillis());
+                buffer.writeByte(0x00); //end
+                // 7.2 执行动作值（【动作参数数量】+【恢复出厂设置序号】+【是否执行清码动作】）
+                buffer.writeByte(0x02); // 仅能取值 0x00 或 0x02,其它值非法
+                buffer.writeByte(0x00);
+                buffer.writeByte(0xFF);
+                // 7.3 车辆信息（【车辆信息参数数量】+【VID】+【品牌】+【系列】+【年款】+【排量】）
+                buffer.writeByte(0x00); // 仅可取值 0x00 或 0x05，其它值非法
+                // 7.4 上传数据网络配置（【网络配置数量】+【网络配置 1】+...+【网络配置 n】）
+                buffer.writeByte(0x00);
+                /*buffer.writeByte(0x05);
+                for (int i = 0; i < 5; i++) {
+                    buffer.writeBytes(ip.getBytes(defaultCharsetGBK));
+                    buffer.writeByte(0x00); //end
+                    buffer.writeByte((port >> 8) & 0xFF);
+                    buffer.writeByte(port & 0xFF);
+                }*/
+                // 7.5 车速分段统计设置（【分段数量】+【第 1 段最高车速】+…+【第 n 段最高车速】）
+                buffer.writeByte(0x04); // 该值不得大于 10
+                buffer.writeByte(1 & 0xFF);
+                buffer.writeByte(45 & 0xFF);
+                buffer.writeByte(90 & 0xFF);
+                buffer.writeByte(255 & 0xFF);
+                // 7.6 定位数据设置（【定位参数设置参数数量】+【定位间隔距离】+【定位间隔时间】+【距离与时间关系】）
+                buffer.writeByte(0x00); // 仅可取值 0x00 或 0x03
+                // 7.7 报警设置（【报警设置参数数量】+【超速最小车速】+【超速报警的最小持续时间】+【报警水温值】+【充电电压报警值】）
+                buffer.writeByte(0x04); // 仅可取 0x00 或 0x04, 其它值非法
+                buffer.writeByte(120 & 0xFF);
+                buffer.writeByte((6 >> 8) & 0xFF); // 6
+                buffer.writeByte(6 & 0xFF);
+                buffer.writeByte((110 >> 8) & 0xFF); // 110
+                buffer.writeByte(110 & 0xFF);
+                buffer.writeByte(132 & 0xFF);
+                // 7.8 熄火后数据设置（【熄火后数据数量】+【熄火后关闭时间点】+【关机临界电压值】+【熄火后电压设定】）
+                buffer.writeByte(0x03); // 该值可取 0x00 或 0x03, 其它值非法
+                buffer.writeByte((720 >> 8) & 0xFF); // 720
+                buffer.writeByte(720 & 0xFF);
+                buffer.writeByte(85 & 0xFF);
+                buffer.writeByte((2 >> 8) & 0xFF); // 2
+                buffer.writeByte(2 & 0xFF);
+                buffer.writeByte(118 & 0xFF);
+                buffer.writeByte(121 & 0xFF);
+                // 7.9 运行中数据设置（【数据 ID 数量】+【【数据间隔时间】+【【数据 ID】…+】】）
+                buffer.writeByte(0x02); // 参考协议示例，设置2个
+                buffer.writeByte((300 >> 8) & 0xFF); // 300
+                buffer.writeByte(300 & 0xFF);
+                buffer.writeByte((511 >> 8) & 0xFF); // 511
+                buffer.writeByte(511 & 0xFF);
+                buffer.writeByte((255 >> 8) & 0xFF); // 255
+                buffer.writeByte(255 & 0xFF);
+                // 7.10 软件升级
+                buffer.writeBytes("0.0.0".getBytes(defaultGBK));
                 buffer.writeByte(0x00); //end
-                buffer.writeByte((port >> 8) & 0xFF);
-                buffer.writeByte(port & 0xFF);
-            }*/
-            // 7.5 车速分段统计设置（【分段数量】+【第 1 段最高车速】+…+【第 n 段最高车速】）
-            buffer.writeByte(0x04); // 该值不得大于 10
-            buffer.writeByte(1 & 0xFF);
-            buffer.writeByte(45 & 0xFF);
-            buffer.writeByte(90 & 0xFF);
-            buffer.writeByte(255 & 0xFF);
-            // 7.6 定位数据设置（【定位参数设置参数数量】+【定位间隔距离】+【定位间隔时间】+【距离与时间关系】）
-            buffer.writeByte(0x00); // 仅可取值 0x00 或 0x03
-            // 7.7 报警设置（【报警设置参数数量】+【超速最小车速】+【超速报警的最小持续时间】+【报警水温值】+【充电电压报警值】）
-            buffer.writeByte(0x04); // 仅可取 0x00 或 0x04, 其它值非法
-            buffer.writeByte(120 & 0xFF);
-            buffer.writeByte((6 >> 8) & 0xFF); // 6
-            buffer.writeByte(6 & 0xFF);
-            buffer.writeByte((110 >> 8) & 0xFF); // 110
-            buffer.writeByte(110 & 0xFF);
-            buffer.writeByte(132 & 0xFF);
-            // 7.8 熄火后数据设置（【熄火后数据数量】+【熄火后关闭时间点】+【关机临界电压值】+【熄火后电压设定】）
-            buffer.writeByte(0x03); // 该值可取 0x00 或 0x03, 其它值非法
-            buffer.writeByte((720 >> 8) & 0xFF); // 720
-            buffer.writeByte(720 & 0xFF);
-            buffer.writeByte(85 & 0xFF);
-            buffer.writeByte((2 >> 8) & 0xFF); // 2
-            buffer.writeByte(2 & 0xFF);
-            buffer.writeByte(118 & 0xFF);
-            buffer.writeByte(121 & 0xFF);
-            // 7.9 运行中数据设置（【数据 ID 数量】+【【数据间隔时间】+【【数据 ID】…+】】）
-            buffer.writeByte(0x02); // 参考协议示例，设置2个
-            buffer.writeByte((300 >> 8) & 0xFF); // 300
-            buffer.writeByte(300 & 0xFF);
-            buffer.writeByte((511 >> 8) & 0xFF); // 511
-            buffer.writeByte(511 & 0xFF);
-            buffer.writeByte((255 >> 8) & 0xFF); // 255
-            buffer.writeByte(255 & 0xFF);
-            // 7.10 软件升级
-            buffer.writeBytes("0.0.0".getBytes(defaultGBK));
-            buffer.writeByte(0x00); //end
 
-        } else {
-            /* 命令字：非0x1603 */
-            // 8.回复成功状态
-            buffer.writeByte(responseCode);
-        }
+            } else {
+                /* 命令字：非0x1603 */
+                // 8.回复成功状态
+                buffer.writeByte(responseCode);
+            }
 
-        // 9.设置包长度和校验信息
-        int length = buffer.readableBytes();
-        buffer.setByte(2, (byte) ((length >> 8) & 0xFF));
-        buffer.setByte(3, (byte) (length & 0xFF));
-        buffer.setByte(4, (byte) ~buffer.getByte(2));
-        buffer.setByte(5, (byte) ~buffer.getByte(3));
-
-        // 10.校验和
-        int sum = 0;
-        for (int i = 2; i < buffer.readableBytes(); i++) {
-            sum += (buffer.getByte(i) & 0xFF);
+            // 9.设置包长度和校验信息
+            int length = buffer.readableBytes();
+            buffer.setByte(2, (byte) ((length >> 8) & 0xFF));
+            buffer.setByte(3, (byte) (length & 0xFF));
+            buffer.setByte(4, (byte) ~buffer.getByte(2));
+            buffer.setByte(5, (byte) ~buffer.getByte(3));
+
+            // 10.校验和
+            int sum = LanduChecksumUtil.sum(buffer, 2, buffer.readableBytes());
+            buffer.writeByte((byte) ((sum >> 8) & 0xFF));
+            buffer.writeByte((byte) (sum & 0xFF));
+
+            return buffer;
+        } catch (UnsupportedEncodingException | RuntimeException e) {
+            // 池化内存必须释放
+            buffer.release();
+            throw e;
         }
-        buffer.writeByte((byte) ((sum >> 8) & 0xFF));
-        buffer.writeByte((byte) (sum & 0xFF));
-
-        return buffer;
     }
 
     @Override
     public ByteBuf createResponse(DataPack requestPack, ERespReason reason) {
+        return createResponse(requestPack, reason, UnpooledByteBufAllocator.DEFAULT);
+    }
+
+    @Override
+    public ByteBuf createResponse(DataPack requestPack, ERespReason reason, ByteBufAllocator allocator) {
         ByteBuf responseBuf = null;
         // 回复设备数据
         if(null != requestPack && ERespReason.OK == reason) {
-            // 校验数据
-            byte[] originalBytes = Base64.getDecoder().decode(requestPack.getDataB64());
-            if(validate(originalBytes)) {
+            // 校验数据(直接读取二进制数据，不经过Base64编解码)
+            byte[] originalBytes = requestPack.getDataBytes();
+            if(LanduDataPack.isVerified(requestPack, VERIFIED_TOKEN) || validate(originalBytes)) {
                 try {
                     // 回复命令字
-                    responseBuf = responseBytes(originalBytes, (byte) 0x00);
+                    responseBuf = responseBytes(originalBytes, (byte) 0x00, allocator);
                 } catch (UnsupportedEncodingException e) {
                     e.printStackTrace();
                 }
@@ -324,740 +361,682 @@ public class DataParserLandu implements IDataParser {
     @Override
     public List<DataPackTarget> extractBody(DataPack dataPack) {
         List<DataPackTarget> dataPackTargetList = null;
-        byte[] dataPackBytes = Base64.getDecoder().decode(dataPack.getDataB64());
-        if(validate(dataPackBytes)) {
-            ByteBuf buffer = null;
+        // 直接读取二进制数据，不经过Base64编解码
+        byte[] dataPackBytes = dataPack.getDataBytes();
+        // extract切分的数据包已经校验过，其它来源的数据包需要完整校验
+        if(LanduDataPack.isVerified(dataPack, VERIFIED_TOKEN) || validate(dataPackBytes)) {
             dataPackTargetList = new ArrayList<>();
-            DataPackObject dataPackObject = new DataPackObject(dataPack);
-            DataPackOverview dataPackOverview;
-            DataPackPosition dataPackPosition;
-            DataPackPeak dataPackPeak;
-            DataPackPeak.Peak dataPeak;
-            List<DataPackPeak.Peak> dataPeakList;
-            LanduDataClassifyUtil.Peak tempatePeak;
-            DataPackAlarm dataPackAlarm;
-            DataPackAlarm.Alarm dataAlarm;
-            List<DataPackAlarm.Alarm> dataAlarmList;
+            // 初始化ByteBuf
+            ByteBuf buffer = Unpooled.wrappedBuffer(dataPackBytes);
+            try {
+                decodeBody(dataPack, buffer, dataPackTargetList);
+            } finally {
+                // 释放ByteBuf
+                buffer.release();
+            }
+        }
+
+        return dataPackTargetList;
+    }
 
+    /**
+     * 抽取并解析数据包(单次遍历)<br>
+     *     直接在累积缓冲区上切分和解析数据包，不复制数据包，也不经过Base64编解码，适用于不需要保存原始数据包的场景
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器
+     * @param dataPackTargetList 解析结果(调用者提供，可重复使用)，解析失败的数据包不会添加任何结果
+     * @return 解析成功的数据包个数
+     */
+    @Override
+    public int extractBody(ByteBuf buffer, LanduFramer framer, List<DataPackTarget> dataPackTargetList) {
+        int[] count = {0};
+        framer.frame(buffer, (frameBuffer, offset, length) -> {
+            // 只用于传递协议信息，不保存数据
+            DataPack dataPack = new LanduDataPack(PROTOCOL_GROUP, PROTOCOL_NAME, getVersion(frameBuffer.getByte(offset + 7)));
+            int size = dataPackTargetList.size();
+            boolean decoded;
             try {
-                // 初始化ByteBuf
-                buffer = Unpooled.wrappedBuffer(dataPackBytes);
-
-                // 跳过“标志+长度+长度校验”6个字节
-                LanduDataPackUtil.readBytes(buffer, 6);
-
-                // 数据包ID
-                dataPackObject.setPackId(LanduDataPackUtil.readByte(buffer));
-
-                // 协议格式版本
-                String version;
-                switch (LanduDataPackUtil.readByte(buffer)) {
-                    case 0x02:
-                        version = "2.05";
-                        break;
-                    case 0x05:
-                        version = "3.08";
-                        break;
-                    default:
-                        version = "unknown";
-                }
-                dataPackObject.setProtocolVersion(version);
-
-                // 协议格式名称
-                dataPackObject.setProtocolName(PROTOCOL_PREFIX + version);
-
-                int commandId = LanduDataPackUtil.readWord(buffer);
-                // 命令字
-                switch (commandId) {
-                    case 0x1601:
-                        System.out.println("## 0x1601 - 3.1.1 车辆检测数据主动上传");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-                        // 5.检测数据时间
-                        dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
-
-                        // 6.车辆状态
-                        int carStatus = LanduDataPackUtil.readByte(buffer);
-                        switch (carStatus) {
-                            case 0x01:
-                                // 0x01-发动机点火时
-                                System.out.println("## 发动机点火时");
-                                // 1.整车数据
-                                dataPackOverview = new DataPackOverview(dataPackObject);
-                                // 1.1 车辆状态
-                                dataPackOverview.setCarStatus(carStatus);
-                                // 1.2 启动电压(V)
-                                dataPackOverview.setVoltage(Float.valueOf(LanduDataPackUtil.readString(buffer)));
-
-                                // 2.定位数据
-                                dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackPosition));
+                decoded = decodeBody(dataPack, frameBuffer.slice(offset, length), dataPackTargetList);
+            } catch (RuntimeException e) {
+                // 数据内容格式错误，继续解析后面的数据包
+                _logger.error("解析数据包失败", e);
+                decoded = false;
+            }
+            if(decoded) {
+                count[0]++;
+            } else {
+                // 丢弃解析失败的数据包的全部结果
+                dataPackTargetList.subList(size, dataPackTargetList.size()).clear();
+            }
+        });
+        // 解析结果不引用累积缓冲区，扔掉已读数据
+        buffer.discardSomeReadBytes();
+        return count[0];
+    }
 
-                                // --add
-                                // 1.3 定位信息
-                                dataPackOverview.setPosition(dataPackPosition);
-                                dataPackTargetList.add(new DataPackTarget(dataPackOverview));
-                                break;
-                            case 0x02:
-                                // 0x02-发动机运行中
-                                System.out.println("## 发动机运行中");
-                                // 1.整车数据
-                                dataPackOverview = new DataPackOverview(dataPackObject);
-                                // 1.1 车辆状态
-                                dataPackOverview.setCarStatus(carStatus);
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackOverview));
-
-                                // 2.极值数据个数
-                                int count = LanduDataPackUtil.readWord(buffer);
-                                if(0 < count) {
-                                    dataPeakList = new ArrayList<>();
-
-                                    Integer id;
-                                    String content;
-                                    for(int i = 0; i < count; i++){
-                                        // 2.1 数据项id
-                                        id = LanduDataPackUtil.readWord(buffer);
-                                        // 2.2 数据项内容
-                                        content = LanduDataPackUtil.readString(buffer);
-
-                                        // 2.3 设置数值信息
-                                        dataPeak = new DataPackPeak.Peak(id, content);
-                                        // 完善数据信息
-                                        tempatePeak = LanduDataClassifyUtil.PEAK_MAP.get(id);
-                                        if(null != tempatePeak) {
-                                            dataPeak.setPeakName(tempatePeak.getPeakName());
-                                            dataPeak.setPeakUnit(tempatePeak.getPeakUnit());
-                                            dataPeak.setPeakDesc(tempatePeak.getPeakDesc());
-                                        }
-
-                                        dataPeakList.add(dataPeak);
-                                    }
-
-                                    // 2.4 添加分发数据
-                                    dataPackPeak = new DataPackPeak(dataPackObject);
-                                    dataPackPeak.setPeakList(dataPeakList);
-                                    // --add
-                                    dataPackTargetList.add(new DataPackTarget(dataPackPeak));
-                                }
-                                break;
-                            case 0x03:
-                                // 0x03-发动机熄火时
-                                System.out.println("## 发动机熄火时");
-                                // 整车数据
-                                dataPackOverview = new DataPackOverview(dataPackObject);
-                                dataPackOverview.setCarStatus(carStatus);
-                                // 1.本行程数据小计
-                                // 1.1 本次发动机运行时间
-                                dataPackOverview.setRunTime(LanduDataPackUtil.readWord(buffer));
-                                // 1.2 本次行驶距离
-                                dataPackOverview.setCurrentMileage(LanduDataPackUtil.readLong(buffer));
-                                // 1.3 本次平均油耗
-                                Integer averageFuelConsumption = LanduDataPackUtil.readWord(buffer);
-                                dataPackOverview.setCurrentAvgOilUsed(averageFuelConsumption/100F);
-                                // 1.4 累计行驶里程
-                                dataPackOverview.setMileage(0.0d + LanduDataPackUtil.readLong(buffer));
-                                // 1.5 累计平均油耗
-                                Integer totalAverageFuelConsumption = LanduDataPackUtil.readWord(buffer);
-                                dataPackOverview.setAvgOilUsed(totalAverageFuelConsumption/100F);
-                                // 1.5 车速分组统计
-                                count = buffer.readUnsignedByte();
-                                if(0 < count) {
-                                    int speed, consumeTime, travelDistance;
-                                    List<DataPackOverview.Speed> speedList = new ArrayList<>();
-                                    for(int i = 0;i < count;i++){
-                                        // 1.5.1 设置速度值
-                                        speed = LanduDataPackUtil.readByte(buffer);
-                                        // 1.5.2 时间小计(秒)
-                                        consumeTime = LanduDataPackUtil.readWord(buffer);
-                                        // 1.5.3 距离小计(米)
-                                        travelDistance = LanduDataPackUtil.readLong(buffer);
-
-                                        speedList.add(new DataPackOverview.Speed(speed, consumeTime, travelDistance));
-                                    }
-                                    dataPackOverview.setSpeedGroup(speedList);
-                                }
-                                // 2.驾驶习惯统计
-                                // 2.1 本次急加速次数
-                                dataPackOverview.setSpeedUpTimes(LanduDataPackUtil.readWord(buffer));
-                                // 2.2 本次急减速次数
-                                dataPackOverview.setSpeedDownTimes(LanduDataPackUtil.readWord(buffer));
-                                // 2.3 本次急转向次数
-                                dataPackOverview.setSharpTurnTimes(LanduDataPackUtil.readWord(buffer));
-                                // 2.4 本次时速超速时间
-                                dataPackOverview.setSpeedingTime(LanduDataPackUtil.readLong(buffer));
-                                // 2.5 最高车速
-                                dataPackOverview.setMaxSpeed(LanduDataPackUtil.readByte(buffer));
-
-                                // 3.定位数据
-                                dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackPosition));
+    /**
+     * 读取极值数据
+     *
+     * @param buffer ByteBuf
+     * @param dataPackObject 基对象
+     * @param count 极值个数
+     * @return 列式存储时返回LanduPeakBatch
+     */
+    private DataPackPeak readPeakObject(ByteBuf buffer, DataPackObject dataPackObject, int count) throws UnsupportedEncodingException {
+        if(peakBatch) {
+            return LanduDataPackUtil.readPeakBatch(buffer, dataPackObject, count);
+        }
 
-                                // --add
-                                // 2.6 定位信息
-                                dataPackOverview.setPosition(dataPackPosition);
-                                dataPackTargetList.add(new DataPackTarget(dataPackOverview));
-                                break;
-                            case 0x04:
-                                // 0x04-发动机熄火后
-                                System.out.println("## 发动机熄火后");
-                                // 整车数据
-                                dataPackOverview = new DataPackOverview(dataPackObject);
-                                dataPackOverview.setCarStatus(carStatus);
-                                //蓄电池电压值
-                                dataPackOverview.setVoltage(Float.valueOf(LanduDataPackUtil.readString(buffer)));
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackOverview));
-                                break;
-                            case 0x05:
-                                // 0x05-车辆不能检测
-                                System.out.println("## 车辆不能检测");
-                                // 无数据上传
-                                break;
-                        }
-                        break;
-                    case 0x1602:
-                        System.out.println("## 0x1602 - 3.1.2 上传车辆报警");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-                        // 5.检测数据时间
-                        dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
-
-                        // 6.报警类型
-                        int alarmType = LanduDataPackUtil.readByte(buffer);
-
-                        // 7.定位数据
-                        dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
-                        // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackPosition));
+        List<DataPackPeak.Peak> dataPeakList = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            dataPeakList.add(readPeak(buffer));
+        }
+        DataPackPeak dataPackPeak = new DataPackPeak(dataPackObject);
+        dataPackPeak.setPeakList(dataPeakList);
+        return dataPackPeak;
+    }
 
-                        // 8.报警数据
-                        dataAlarmList = new ArrayList<>();
-                        dataPackAlarm = new DataPackAlarm(dataPackObject);
-                        // 8.1 判断报警类型信息
-                        switch (alarmType){
-                            case 0x01:
-                                System.out.println("## 新故障码报警: ");
-                                //故障码个数
-                                int count = LanduDataPackUtil.readByte(buffer);
-                                if(0 < count) {
-                                    String code, value, desc;
-                                    for(int i = 0;i < count;i ++){
-                                        //故障码
-                                        code = LanduDataPackUtil.readString(buffer);
-                                        //故障码属性
-                                        value = LanduDataPackUtil.readString(buffer);
-                                        //故障码描述
-                                        desc = LanduDataPackUtil.readString(buffer);
-
-                                        dataAlarm = new DataPackAlarm.Alarm("新故障码报警");
-                                        dataAlarm.setAlarmCode(code);
-                                        dataAlarm.setAlarmValue(value);
-                                        dataAlarm.setAlarmDesc(desc);
-
-                                        dataAlarmList.add(dataAlarm);
-                                    }
-                                }
-                                break;
-                            case 0x02:
-                                System.out.println("## 碰撞报警/异常震动报警: ");
-                                dataAlarm = new DataPackAlarm.Alarm("碰撞报警");
-                                dataAlarm.setAlarmCode(String.valueOf(alarmType));
-
-                                dataAlarmList.add(dataAlarm);
-                                break;
-                            case 0x03:
-                                System.out.println("## 防盗报警: ");
-                                dataAlarm = new DataPackAlarm.Alarm("防盗报警");
-                                dataAlarm.setAlarmCode(String.valueOf(alarmType));
-
-                                dataAlarmList.add(dataAlarm);
-                                break;
-                            case 0x04:
-                                System.out.println("## 水温报警: ");
-                                //实际水温数值
-                                String waterTemperature = LanduDataPackUtil.readString(buffer);
-                                dataAlarm = new DataPackAlarm.Alarm("水温报警");
-                                dataAlarm.setAlarmCode(String.valueOf(alarmType));
-                                dataAlarm.setAlarmValue(waterTemperature);
-
-                                dataAlarmList.add(dataAlarm);
-                                break;
-                            case 0x05:
-                                System.out.println("## 充电电压报警: ");
-                                //充电电压值
-                                String chargingVoltage = LanduDataPackUtil.readString(buffer);
-                                dataAlarm = new DataPackAlarm.Alarm("充电电压报警");
-                                dataAlarm.setAlarmCode(String.valueOf(alarmType));
-                                dataAlarm.setAlarmValue(chargingVoltage);
-                                dataAlarm.setAlarmDesc("小于 13.1 伏");
-
-                                dataAlarmList.add(dataAlarm);
-                                break;
-                            case 0xF0:
-                                System.out.println("## 拔下OBD报警: ");
-                                //设备拔下时间戳
-                                String pullOutTime = LanduDataPackUtil.readString(buffer);
-                                dataAlarm = new DataPackAlarm.Alarm("拔下OBD报警");
-                                dataAlarm.setAlarmCode(String.valueOf(alarmType));
-                                dataAlarm.setAlarmValue(pullOutTime);
-
-                                dataAlarmList.add(dataAlarm);
-                                break;
-                            default:
-                                System.out.println("## 其他报警: ");
-                                dataAlarm = new DataPackAlarm.Alarm("其他报警");
-                                dataAlarm.setAlarmCode(String.valueOf(alarmType));
-
-                                dataAlarmList.add(dataAlarm);
-                        }
-                        // 8.2 添加分发数据
-                        dataPackAlarm.setAlarmList(dataAlarmList);
-                        dataPackAlarm.setPosition(dataPackPosition);
-                        // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackAlarm));
-                        break;
-                    case 0x1603:
-                        System.out.println("## 0x1603 - 3.1.3 从服务器取得参数");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.上报设备信息
-                        DataPackDevice dataPackDevice = new DataPackDevice(dataPackObject);
-                        // 5.1 硬件版本号
-                        dataPackDevice.setHardwareVersion(LanduDataPackUtil.readString(buffer));
-                        // 5.2 固件版本号
-                        dataPackDevice.setFirmwareVersion(LanduDataPackUtil.readString(buffer));
-                        // 5.3 软件版本号
-                        dataPackDevice.setSoftwareVersion(LanduDataPackUtil.readString(buffer));
-                        // 5.4 诊断程序类型
-                        dataPackDevice.setDiagnoseProgramType(LanduDataPackUtil.readByte(buffer));
-                        // 5.5 恢复出厂设置序号
-                        dataPackDevice.setInitCode(LanduDataPackUtil.readByte(buffer));
-                        // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackDevice));
-                        break;
-                    case 0x1605:
-                        System.out.println("## 0x1605 - 3.1.4 上传调试数据");
-                        break;
-                    case 0x1606:
-                        System.out.println("## 0x1606 - 3.1.5 位置数据");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.定位信息个数
-                        int count = LanduDataPackUtil.readWord(buffer);
-                        if(0 < count) {
-                            // 定位信息列表
-                            for(int i = 0;i < count;i ++){
-                                // 定位数据
-                                dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackPosition));
-                            }
-                        }
-                        break;
-                    case 0x1607:
-                        System.out.println("## 0x1607 - 3.1.6 冻结帧数据");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-                        // 5.检测数据时间
-                        dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
-
-                        // 6.冻结帧个数
-                        count = LanduDataPackUtil.readWord(buffer);
-                        if(0 < count) {
-                            dataPeakList = new ArrayList<>();
-
-                            // 冻结帧列表
-                            Integer id;
-                            String content;
-                            for(int i = 0; i < count; i++){
-                                // 数据项ID
-                                id = LanduDataPackUtil.readWord(buffer);
-                                // 数据项内容
-                                content = LanduDataPackUtil.readString(buffer);
-
-                                // 设置数值信息
-                                dataPeak = new DataPackPeak.Peak(id, content);
-                                // 完善数据信息
-                                tempatePeak = LanduDataClassifyUtil.PEAK_MAP.get(id);
-                                if(null != tempatePeak) {
-                                    dataPeak.setPeakName(tempatePeak.getPeakName());
-                                    dataPeak.setPeakUnit(tempatePeak.getPeakUnit());
-                                    dataPeak.setPeakDesc(tempatePeak.getPeakDesc());
-                                }
+    /**
+     * 读取一个极值数据(数据项ID + 数据项内容)<br>
+     *     按极值数据表完善名称、单位和描述，并按极值格式解析数值
+     *
+     * @param buffer ByteBuf
+     * @return 极值数据
+     */
+    private static DataPackPeak.Peak readPeak(ByteBuf buffer) throws UnsupportedEncodingException {
+        // 数据项ID
+        int id = LanduDataPackUtil.readWord(buffer);
+        // 数据项内容
+        String content = LanduDataPackUtil.readString(buffer);
+
+        // 完善数据信息
+        return LanduPeak.valueOf(id, content);
+    }
+
+    /**
+     * 解析数据包内容
+     *
+     * @param dataPack 数据包
+     * @param buffer 完整的数据包(readerIndex指向数据包标志)
+     * @param dataPackTargetList 解析结果
+     * @return false-解析失败(已添加的部分结果由调用者决定是否保留)
+     */
+    private boolean decodeBody(DataPack dataPack, ByteBuf buffer, List<DataPackTarget> dataPackTargetList) {
+        // 未订阅的命令字不解析(命令字位于第9、10个字节)
+        if(!commandSubscription.isSubscribed(buffer.getUnsignedShort(buffer.readerIndex() + 8))) {
+            return true;
+        }
 
-                                dataPeakList.add(dataPeak);
+        DataPackObject dataPackObject = new DataPackObject(dataPack);
+        DataPackOverview dataPackOverview;
+        DataPackPosition dataPackPosition;
+        DataPackPeak dataPackPeak;
+        DataPackAlarm dataPackAlarm;
+        DataPackAlarm.Alarm dataAlarm;
+        List<DataPackAlarm.Alarm> dataAlarmList;
+
+        try {
+            // 跳过“标志+长度+长度校验”6个字节
+            LanduDataPackUtil.readBytes(buffer, 6);
+
+            // 数据包ID
+            dataPackObject.setPackId(LanduDataPackUtil.readByte(buffer));
+
+            // 协议格式版本
+            String version;
+            switch (LanduDataPackUtil.readByte(buffer)) {
+                case 0x02:
+                    version = "2.05";
+                    break;
+                case 0x05:
+                    version = "3.08";
+                    break;
+                default:
+                    version = "unknown";
+            }
+            dataPackObject.setProtocolVersion(version);
+
+            // 协议格式名称
+            dataPackObject.setProtocolName(PROTOCOL_PREFIX + version);
+
+            int commandId = LanduDataPackUtil.readWord(buffer);
+            // 命令字
+            switch (commandId) {
+                case 0x1601:
+                    System.out.println("## 0x1601 - 3.1.1 车辆检测数据主动上传");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+                    // 5.检测数据时间
+                    dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
+
+                    // 6.车辆状态
+                    int carStatus = LanduDataPackUtil.readByte(buffer);
+                    switch (carStatus) {
+                        case 0x01:
+                            // 0x01-发动机点火时
+                            System.out.println("## 发动机点火时");
+                            // 1.整车数据
+                            dataPackOverview = new DataPackOverview(dataPackObject);
+                            // 1.1 车辆状态
+                            dataPackOverview.setCarStatus(carStatus);
+                            // 1.2 启动电压(V)
+                            float startVoltage = LanduDataPackUtil.readAsciiFloat(buffer);
+                            if(!Float.isNaN(startVoltage)) {
+                                dataPackOverview.setVoltage(startVoltage);
                             }
 
-                            // 添加分发数据
-                            dataPackPeak = new DataPackPeak(dataPackObject);
-                            dataPackPeak.setPeakList(dataPeakList);
+                            // 2.定位数据
+                            dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
                             // --add
-                            dataPackTargetList.add(new DataPackTarget(dataPackPeak));
-                        }
-                        break;
-                    case 0x1608:
-                        System.out.println("## 0x1608 - 3.1.7 怠速车况数据");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-                        // 5.检测数据时间
-                        dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
-
-                        // 6.故障码个数
-                        int alarmCount = LanduDataPackUtil.readByte(buffer);
-                        if(0 < alarmCount) {
-                            dataAlarmList = new ArrayList<>();
-
-                            // 故障码列表
-                            String code, value, desc;
-                            for(int i = 0;i < alarmCount;i ++){
-                                // 故障码
-                                code = LanduDataPackUtil.readString(buffer);
-                                // 故障码属性
-                                value = LanduDataPackUtil.readString(buffer);
-                                // 故障码描述
-                                desc = LanduDataPackUtil.readString(buffer);
-
-                                dataAlarm = new DataPackAlarm.Alarm("故障码");
-                                dataAlarm.setAlarmCode(code);
-                                dataAlarm.setAlarmValue(value);
-                                dataAlarm.setAlarmDesc(desc);
-
-                                dataAlarmList.add(dataAlarm);
-                            }
+                            dataPackTargetList.add(new DataPackTarget(dataPackPosition));
 
-                            // 添加分发数据
-                            dataPackAlarm = new DataPackAlarm(dataPackObject);
-                            dataPackAlarm.setAlarmList(dataAlarmList);
                             // --add
-                            dataPackTargetList.add(new DataPackTarget(dataPackAlarm));
-                        }
+                            // 1.3 定位信息
+                            dataPackOverview.setPosition(dataPackPosition);
+                            dataPackTargetList.add(new DataPackTarget(dataPackOverview));
+                            break;
+                        case 0x02:
+                            // 0x02-发动机运行中
+                            System.out.println("## 发动机运行中");
+                            // 1.整车数据
+                            dataPackOverview = new DataPackOverview(dataPackObject);
+                            // 1.1 车辆状态
+                            dataPackOverview.setCarStatus(carStatus);
+                            // --add
+                            dataPackTargetList.add(new DataPackTarget(dataPackOverview));
 
-                        // 7.数据流个数
-                        int dataCount = LanduDataPackUtil.readWord(buffer);
-                        if(0 < dataCount) {
-                            dataPeakList = new ArrayList<>();
-
-                            // 数据流列表(车况信息)
-                            Integer id;
-                            String content;
-                            for(int i = 0; i < dataCount; i++){
-                                // 数据项ID
-                                id = LanduDataPackUtil.readWord(buffer);
-                                // 数据项内容
-                                content = LanduDataPackUtil.readString(buffer);
-
-                                // 设置数值信息
-                                dataPeak = new DataPackPeak.Peak(id, content);
-                                // 完善数据信息
-                                tempatePeak = LanduDataClassifyUtil.PEAK_MAP.get(id);
-                                if(null != tempatePeak) {
-                                    dataPeak.setPeakName(tempatePeak.getPeakName());
-                                    dataPeak.setPeakUnit(tempatePeak.getPeakUnit());
-                                    dataPeak.setPeakDesc(tempatePeak.getPeakDesc());
+                            // 2.极值数据个数
+                            int count = LanduDataPackUtil.readWord(buffer);
+                            if(0 < count) {
+                                // 2.4 添加分发数据
+                                dataPackPeak = readPeakObject(buffer, dataPackObject, count);
+                                // --add
+                                dataPackTargetList.add(new DataPackTarget(dataPackPeak));
+                            }
+                            break;
+                        case 0x03:
+                            // 0x03-发动机熄火时
+                            System.out.println("## 发动机熄火时");
+                            // 整车数据
+                            dataPackOverview = new DataPackOverview(dataPackObject);
+                            dataPackOverview.setCarStatus(carStatus);
+                            // 1.本行程数据小计
+                            // 1.1 本次发动机运行时间
+                            dataPackOverview.setRunTime(LanduDataPackUtil.readWord(buffer));
+                            // 1.2 本次行驶距离
+                            dataPackOverview.setCurrentMileage(LanduDataPackUtil.readLong(buffer));
+                            // 1.3 本次平均油耗
+                            Integer averageFuelConsumption = LanduDataPackUtil.readWord(buffer);
+                            dataPackOverview.setCurrentAvgOilUsed(averageFuelConsumption/100F);
+                            // 1.4 累计行驶里程
+                            dataPackOverview.setMileage(0.0d + LanduDataPackUtil.readLong(buffer));
+                            // 1.5 累计平均油耗
+                            Integer totalAverageFuelConsumption = LanduDataPackUtil.readWord(buffer);
+                            dataPackOverview.setAvgOilUsed(totalAverageFuelConsumption/100F);
+                            // 1.5 车速分组统计
+                            count = buffer.readUnsignedByte();
+                            if(0 < count) {
+                                int speed, consumeTime, travelDistance;
+                                List<DataPackOverview.Speed> speedList = new ArrayList<>();
+                                for(int i = 0;i < count;i++){
+                                    // 1.5.1 设置速度值
+                                    speed = LanduDataPackUtil.readByte(buffer);
+                                    // 1.5.2 时间小计(秒)
+                                    consumeTime = LanduDataPackUtil.readWord(buffer);
+                                    // 1.5.3 距离小计(米)
+                                    travelDistance = LanduDataPackUtil.readLong(buffer);
+
+                                    speedList.add(new DataPackOverview.Speed(speed, consumeTime, travelDistance));
                                 }
-
-                                dataPeakList.add(dataPeak);
+                                dataPackOverview.setSpeedGroup(speedList);
                             }
+                            // 2.驾驶习惯统计
+                            // 2.1 本次急加速次数
+                            dataPackOverview.setSpeedUpTimes(LanduDataPackUtil.readWord(buffer));
+                            // 2.2 本次急减速次数
+                            dataPackOverview.setSpeedDownTimes(LanduDataPackUtil.readWord(buffer));
+                            // 2.3 本次急转向次数
+                            dataPackOverview.setSharpTurnTimes(LanduDataPackUtil.readWord(buffer));
+                            // 2.4 本次时速超速时间
+                            dataPackOverview.setSpeedingTime(LanduDataPackUtil.readLong(buffer));
+                            // 2.5 最高车速
+                            dataPackOverview.setMaxSpeed(LanduDataPackUtil.readByte(buffer));
+
+                            // 3.定位数据
+                            dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
+                            // --add
+                            dataPackTargetList.add(new DataPackTarget(dataPackPosition));
 
-                            // 添加分发数据
-                            dataPackPeak = new DataPackPeak(dataPackObject);
-                            dataPackPeak.setPeakList(dataPeakList);
                             // --add
-                            dataPackTargetList.add(new DataPackTarget(dataPackPeak));
-                        }
-                        break;
-                    case 0x160A:
-                        System.out.println("## 0x160A - 3.1.9 行为位置数据");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-                        // 5.检测数据时间
-                        dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
-
-                        // 6.数据类型
-                        int dataType = LanduDataPackUtil.readByte(buffer);
-                        String behaviorName = null;
-                        String behaviorDesc = null;
-                        switch (dataType){
-                            case 0x01:
-                                System.out.println("## 超速记录");
-                                behaviorName = "超速";
-                                behaviorDesc = "超速记录";
-                                break;
-                            case 0x02:
-                                System.out.println("## 急加速记录");
-                                behaviorName = "急加速";
-                                behaviorDesc = "急加速记录";
-                                break;
-                            case 0x03:
-                                System.out.println("## 急减速记录");
-                                behaviorName = "急减速";
-                                behaviorDesc = "急减速记录";
-                                break;
-                            case 0x04:
-                                System.out.println("## 急转弯记录");
-                                behaviorName = "急转弯";
-                                behaviorDesc = "急转弯记录";
-                                break;
-                            case 0xF0:
-                                System.out.println("拔下OBD记录");
-                                behaviorName = "拔下OBD";
-                                behaviorDesc = "拔下OBD记录";
-                                break;
-                            default:
-                                System.out.println("## 无效");
+                            // 2.6 定位信息
+                            dataPackOverview.setPosition(dataPackPosition);
+                            dataPackTargetList.add(new DataPackTarget(dataPackOverview));
+                            break;
+                        case 0x04:
+                            // 0x04-发动机熄火后
+                            System.out.println("## 发动机熄火后");
+                            // 整车数据
+                            dataPackOverview = new DataPackOverview(dataPackObject);
+                            dataPackOverview.setCarStatus(carStatus);
+                            //蓄电池电压值
+                            float batteryVoltage = LanduDataPackUtil.readAsciiFloat(buffer);
+                            if(!Float.isNaN(batteryVoltage)) {
+                                dataPackOverview.setVoltage(batteryVoltage);
+                            }
+                            // --add
+                            dataPackTargetList.add(new DataPackTarget(dataPackOverview));
+                            break;
+                        case 0x05:
+                            // 0x05-车辆不能检测
+                            System.out.println("## 车辆不能检测");
+                            // 无数据上传
+                            break;
+                    }
+                    break;
+                case 0x1602:
+                    System.out.println("## 0x1602 - 3.1.2 上传车辆报警");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+                    // 5.检测数据时间
+                    dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
+
+                    // 6.报警类型
+                    int alarmType = LanduDataPackUtil.readByte(buffer);
+
+                    // 7.定位数据
+                    dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackPosition));
+
+                    // 8.报警数据
+                    dataAlarmList = new ArrayList<>();
+                    dataPackAlarm = new DataPackAlarm(dataPackObject);
+                    // 8.1 判断报警类型信息
+                    switch (alarmType){
+                        case 0x01:
+                            System.out.println("## 新故障码报警: ");
+                            //故障码个数
+                            int count = LanduDataPackUtil.readByte(buffer);
+                            if(0 < count) {
+                                String code, value, desc;
+                                for(int i = 0;i < count;i ++){
+                                    //故障码
+                                    code = LanduDataPackUtil.readCachedString(buffer);
+                                    //故障码属性
+                                    value = LanduDataPackUtil.readCachedString(buffer);
+                                    //故障码描述
+                                    desc = LanduDataPackUtil.readCachedString(buffer);
+
+                                    dataAlarm = LanduDtcAlarm.valueOf("新故障码报警", code, value, desc);
+
+                                    dataAlarmList.add(dataAlarm);
+                                }
+                            }
+                            break;
+                        case 0x02:
+                            System.out.println("## 碰撞报警/异常震动报警: ");
+                            dataAlarm = new DataPackAlarm.Alarm("碰撞报警");
+                            dataAlarm.setAlarmCode(String.valueOf(alarmType));
 
-                        }
+                            dataAlarmList.add(dataAlarm);
+                            break;
+                        case 0x03:
+                            System.out.println("## 防盗报警: ");
+                            dataAlarm = new DataPackAlarm.Alarm("防盗报警");
+                            dataAlarm.setAlarmCode(String.valueOf(alarmType));
 
-                        // 7.位置数据
-                        switch (dataType) {
-                            case 0x01:
-                            case 0x02:
-                            case 0x03:
-                            case 0x04:
-                            case 0xF0:
-                                // 定位数据
-                                dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackPosition));
-
-                                // 行为数据
-                                DataPackBehavior dataPackBehavior = new DataPackBehavior(dataPackObject);
-                                dataPackBehavior.setBehaviorId(dataType);
-                                dataPackBehavior.setBehaviorName(behaviorName);
-                                dataPackBehavior.setBehaviorDesc(behaviorDesc);
-                                dataPackBehavior.setPosition(dataPackPosition);
-                                // --add
-                                dataPackTargetList.add(new DataPackTarget(dataPackBehavior));
-                                break;
-                        }
-                        break;
-                    case 0x1621:
-                        /**
-                         * 注：本命令在 V3.12 版本之后不再支持
-                         */
-                        System.out.println("## 0x1621 - 3.2.2 取得车辆当前检测数据");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.故障等级
-                        int alarmLevel = LanduDataPackUtil.readByte(buffer);
-                        String alarmLevelDesc = null;
-                        switch (alarmLevel) {
-                            case 0x00:
-                                // 系统正常
-                                alarmLevelDesc = "系统正常";
-                                break;
-                            case 0x01:
-                                // 可忽略的故障
-                                alarmLevelDesc = "可忽略的故障";
-                                break;
-                            case 0x02:
-                                // 需要检修的故障
-                                alarmLevelDesc = "需要检修的故障";
-                                break;
-                            case 0x03:
-                                // 立即停车检修的故障
-                                alarmLevelDesc = "立即停车检修的故障";
-                                break;
-                            case 0xFF:
-                                // 当前状态不适合读码
-                                alarmLevelDesc = "当前状态不适合读码";
-                                break;
+                            dataAlarmList.add(dataAlarm);
+                            break;
+                        case 0x04:
+                            System.out.println("## 水温报警: ");
+                            //实际水温数值
+                            String waterTemperature = LanduDataPackUtil.readString(buffer);
+                            dataAlarm = new DataPackAlarm.Alarm("水温报警");
+                            dataAlarm.setAlarmCode(String.valueOf(alarmType));
+                            dataAlarm.setAlarmValue(waterTemperature);
+
+                            dataAlarmList.add(dataAlarm);
+                            break;
+                        case 0x05:
+                            System.out.println("## 充电电压报警: ");
+                            //充电电压值
+                            String chargingVoltage = LanduDataPackUtil.readString(buffer);
+                            dataAlarm = new DataPackAlarm.Alarm("充电电压报警");
+                            dataAlarm.setAlarmCode(String.valueOf(alarmType));
+                            dataAlarm.setAlarmValue(chargingVoltage);
+                            dataAlarm.setAlarmDesc("小于 13.1 伏");
+
+                            dataAlarmList.add(dataAlarm);
+                            break;
+                        case 0xF0:
+                            System.out.println("## 拔下OBD报警: ");
+                            //设备拔下时间戳
+                            String pullOutTime = LanduDataPackUtil.readString(buffer);
+                            dataAlarm = new DataPackAlarm.Alarm("拔下OBD报警");
+                            dataAlarm.setAlarmCode(String.valueOf(alarmType));
+                            dataAlarm.setAlarmValue(pullOutTime);
+
+                            dataAlarmList.add(dataAlarm);
+                            break;
+                        default:
+                            System.out.println("## 其他报警: ");
+                            dataAlarm = new DataPackAlarm.Alarm("其他报警");
+                            dataAlarm.setAlarmCode(String.valueOf(alarmType));
+
+                            dataAlarmList.add(dataAlarm);
+                    }
+                    // 8.2 添加分发数据
+                    dataPackAlarm.setAlarmList(dataAlarmList);
+                    dataPackAlarm.setPosition(dataPackPosition);
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackAlarm));
+                    break;
+                case 0x1603:
+                    System.out.println("## 0x1603 - 3.1.3 从服务器取得参数");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.上报设备信息
+                    DataPackDevice dataPackDevice = new DataPackDevice(dataPackObject);
+                    // 5.1 硬件版本号
+                    dataPackDevice.setHardwareVersion(LanduDataPackUtil.readString(buffer));
+                    // 5.2 固件版本号
+                    dataPackDevice.setFirmwareVersion(LanduDataPackUtil.readString(buffer));
+                    // 5.3 软件版本号
+                    dataPackDevice.setSoftwareVersion(LanduDataPackUtil.readString(buffer));
+                    // 5.4 诊断程序类型
+                    dataPackDevice.setDiagnoseProgramType(LanduDataPackUtil.readByte(buffer));
+                    // 5.5 恢复出厂设置序号
+                    dataPackDevice.setInitCode(LanduDataPackUtil.readByte(buffer));
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackDevice));
+                    break;
+                case 0x1605:
+                    System.out.println("## 0x1605 - 3.1.4 上传调试数据");
+                    break;
+                case 0x1606:
+                    System.out.println("## 0x1606 - 3.1.5 位置数据");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.定位信息个数
+                    int count = LanduDataPackUtil.readWord(buffer);
+                    if(0 < count) {
+                        // 定位信息列表
+                        for(int i = 0;i < count;i ++){
+                            // 定位数据
+                            dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
+                            // --add
+                            dataPackTargetList.add(new DataPackTarget(dataPackPosition));
                         }
+                    }
+                    break;
+                case 0x1607:
+                    System.out.println("## 0x1607 - 3.1.6 冻结帧数据");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+                    // 5.检测数据时间
+                    dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
+
+                    // 6.冻结帧个数
+                    count = LanduDataPackUtil.readWord(buffer);
+                    if(0 < count) {
+                        // 添加分发数据
+                        dataPackPeak = readPeakObject(buffer, dataPackObject, count);
+                        // --add
+                        dataPackTargetList.add(new DataPackTarget(dataPackPeak));
+                    }
+                    break;
+                case 0x1608:
+                    System.out.println("## 0x1608 - 3.1.7 怠速车况数据");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+                    // 5.检测数据时间
+                    dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
+
+                    // 6.故障码个数
+                    int alarmCount = LanduDataPackUtil.readByte(buffer);
+                    if(0 < alarmCount) {
+                        dataAlarmList = new ArrayList<>();
 
-                        // 6.故障码个数
-                        count = LanduDataPackUtil.readByte(buffer);
-                        if(0 < count) {
-                            dataAlarmList = new ArrayList<>();
-
-                            // 故障码列表
-                            String code, value, desc;
-                            for(int i = 0;i < count;i ++){
-                                // 故障码
-                                code = LanduDataPackUtil.readString(buffer);
-                                // 故障码属性
-                                value = LanduDataPackUtil.readString(buffer);
-                                // 故障码描述
-                                desc = LanduDataPackUtil.readString(buffer);
-
-                                dataAlarm = new DataPackAlarm.Alarm("故障码");
-                                dataAlarm.setAlarmCode(code);
-                                dataAlarm.setAlarmValue(value);
-                                dataAlarm.setAlarmDesc(desc);
-                                dataAlarm.setAlarmLevel(alarmLevel);
-                                dataAlarm.setAlarmLevelDesc(alarmLevelDesc);
-
-                                dataAlarmList.add(dataAlarm);
-                            }
+                        // 故障码列表
+                        String code, value, desc;
+                        for(int i = 0;i < alarmCount;i ++){
+                            // 故障码
+                            code = LanduDataPackUtil.readCachedString(buffer);
+                            // 故障码属性
+                            value = LanduDataPackUtil.readCachedString(buffer);
+                            // 故障码描述
+                            desc = LanduDataPackUtil.readCachedString(buffer);
 
-                            //添加分发数据
-                            dataPackAlarm = new DataPackAlarm(dataPackObject);
-                            dataPackAlarm.setAlarmList(dataAlarmList);
-                            dataPackTargetList.add(new DataPackTarget(dataPackAlarm));
+                            dataAlarm = LanduDtcAlarm.valueOf("故障码", code, value, desc);
+
+                            dataAlarmList.add(dataAlarm);
                         }
-                        break;
-                    case 0x1622:
-                        System.out.println("## 0x1622 - 3.2.3 根据索引 ID 取得相应的检测数据");
-                        break;
-                    case 0x1623:
-                        System.out.println("## 0x1623 - 3.2.4 车辆诊断参数设定");
-                        break;
-                    case 0x1624:
-                        System.out.println("## 0x1624 - 3.2.5 清空累计平均油耗");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.错误代码
-                        int resultCode = LanduDataPackUtil.readByte(buffer);
-
-                        // 6.设备回复下行命令执行结果
-                        DataPackResult dataPackResult = new DataPackResult(dataPackObject);
-                        dataPackResult.setResultCode(resultCode);
-                        // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackResult));
-                        break;
-                    case 0x1625:
-                        /**
-                         * 注：V3.12之后版本不再支持
-                         */
-                        System.out.println("## 0x1625 - 3.2.6 取得系统版本信息");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.上报设备信息
-                        dataPackDevice = new DataPackDevice(dataPackObject);
-                        // 5.1 硬件版本号
-                        dataPackDevice.setHardwareVersion(LanduDataPackUtil.readString(buffer));
-                        // 5.2 固件版本号
-                        dataPackDevice.setFirmwareVersion(LanduDataPackUtil.readString(buffer));
-                        // 5.3 软件版本号
-                        dataPackDevice.setSoftwareVersion(LanduDataPackUtil.readString(buffer));
-                        // 5.4 软件类别ID
-                        dataPackDevice.setSoftwareTypeId(LanduDataPackUtil.readByte(buffer));
-                        // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackDevice));
-                        break;
-                    case 0x1626:
-                        System.out.println("## 0x1626 - 3.2.7 清除车辆故障码");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.错误代码
-                        resultCode = LanduDataPackUtil.readByte(buffer);
-
-                        // 6.设备回复下行命令执行结果
-                        dataPackResult = new DataPackResult(dataPackObject);
-                        dataPackResult.setResultCode(resultCode);
+
+                        // 添加分发数据
+                        dataPackAlarm = new DataPackAlarm(dataPackObject);
+                        dataPackAlarm.setAlarmList(dataAlarmList);
                         // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackResult));
-                        break;
-                    case 0x16E0:
-                        System.out.println("## 0x16E0 - 3.3.1 恢复出厂设置");
-                        // 1.设备号
-                        dataPackObject.setDeviceId(LanduDataPackUtil.readString(buffer));
-                        // 2.TripID
-                        dataPackObject.setTripId(LanduDataPackUtil.readDWord(buffer));
-                        // 3.VID
-                        dataPackObject.setVid(LanduDataPackUtil.readString(buffer));
-                        // 4.VIN
-                        dataPackObject.setVin(LanduDataPackUtil.readString(buffer));
-
-                        // 5.错误代码
-                        resultCode = LanduDataPackUtil.readByte(buffer);
-
-                        // 6.设备回复下行命令执行结果
-                        dataPackResult = new DataPackResult(dataPackObject);
-                        dataPackResult.setResultCode(resultCode);
+                        dataPackTargetList.add(new DataPackTarget(dataPackAlarm));
+                    }
+
+                    // 7.数据流个数
+                    int dataCount = LanduDataPackUtil.readWord(buffer);
+                    if(0 < dataCount) {
+                        // 添加分发数据
+                        dataPackPeak = readPeakObject(buffer, dataPackObject, dataCount);
                         // --add
-                        dataPackTargetList.add(new DataPackTarget(dataPackResult));
-                        break;
-                    default:
-                        _logger.info("未知的协议id：" + commandId);
-                        break;
-                }
+                        dataPackTargetList.add(new DataPackTarget(dataPackPeak));
+                    }
+                    break;
+                case 0x160A:
+                    System.out.println("## 0x160A - 3.1.9 行为位置数据");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+                    // 5.检测数据时间
+                    dataPackObject.setDetectionTime(LanduDataPackUtil.readDate(buffer));
+
+                    // 6.数据类型
+                    int dataType = LanduDataPackUtil.readByte(buffer);
+                    String behaviorName = null;
+                    String behaviorDesc = null;
+                    switch (dataType){
+                        case 0x01:
+                            System.out.println("## 超速记录");
+                            behaviorName = "超速";
+                            behaviorDesc = "超速记录";
+                            break;
+                        case 0x02:
+                            System.out.println("## 急加速记录");
+                            behaviorName = "急加速";
+                            behaviorDesc = "急加速记录";
+                            break;
+                        case 0x03:
+                            System.out.println("## 急减速记录");
+                            behaviorName = "急减速";
+                            behaviorDesc = "急减速记录";
+                            break;
+                        case 0x04:
+                            System.out.println("## 急转弯记录");
+                            behaviorName = "急转弯";
+                            behaviorDesc = "急转弯记录";
+                            break;
+                        case 0xF0:
+                            System.out.println("拔下OBD记录");
+                            behaviorName = "拔下OBD";
+                            behaviorDesc = "拔下OBD记录";
+                            break;
+                        default:
+                            System.out.println("## 无效");
 
-            } catch (ParseException | UnsupportedEncodingException e) {
-                e.printStackTrace();
-            } finally {
-                // 释放ByteBuf
-                if(null != buffer) {
-                    buffer.release();
-                }
+                    }
+
+                    // 7.位置数据
+                    switch (dataType) {
+                        case 0x01:
+                        case 0x02:
+                        case 0x03:
+                        case 0x04:
+                        case 0xF0:
+                            // 定位数据
+                            dataPackPosition = LanduDataPackUtil.readPositionObject(buffer, dataPackObject);
+                            // --add
+                            dataPackTargetList.add(new DataPackTarget(dataPackPosition));
+
+                            // 行为数据
+                            DataPackBehavior dataPackBehavior = new DataPackBehavior(dataPackObject);
+                            dataPackBehavior.setBehaviorId(dataType);
+                            dataPackBehavior.setBehaviorName(behaviorName);
+                            dataPackBehavior.setBehaviorDesc(behaviorDesc);
+                            dataPackBehavior.setPosition(dataPackPosition);
+                            // --add
+                            dataPackTargetList.add(new DataPackTarget(dataPackBehavior));
+                            break;
+                    }
+                    break;
+                case 0x1621:
+                    /**
+                     * 注：本命令在 V3.12 版本之后不再支持
+                     */
+                    System.out.println("## 0x1621 - 3.2.2 取得车辆当前检测数据");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.故障等级
+                    int alarmLevel = LanduDataPackUtil.readByte(buffer);
+                    String alarmLevelDesc = null;
+                    switch (alarmLevel) {
+                        case 0x00:
+                            // 系统正常
+                            alarmLevelDesc = "系统正常";
+                            break;
+                        case 0x01:
+                            // 可忽略的故障
+                            alarmLevelDesc = "可忽略的故障";
+                            break;
+                        case 0x02:
+                            // 需要检修的故障
+                            alarmLevelDesc = "需要检修的故障";
+                            break;
+                        case 0x03:
+                            // 立即停车检修的故障
+                            alarmLevelDesc = "立即停车检修的故障";
+                            break;
+                        case 0xFF:
+                            // 当前状态不适合读码
+                            alarmLevelDesc = "当前状态不适合读码";
+                            break;
+                    }
+
+                    // 6.故障码个数
+                    count = LanduDataPackUtil.readByte(buffer);
+                    if(0 < count) {
+                        dataAlarmList = new ArrayList<>();
+
+                        // 故障码列表
+                        String code, value, desc;
+                        for(int i = 0;i < count;i ++){
+                            // 故障码
+                            code = LanduDataPackUtil.readCachedString(buffer);
+                            // 故障码属性
+                            value = LanduDataPackUtil.readCachedString(buffer);
+                            // 故障码描述
+                            desc = LanduDataPackUtil.readCachedString(buffer);
+
+                            dataAlarm = LanduDtcAlarm.valueOf("故障码", code, value, desc);
+                            dataAlarm.setAlarmLevel(alarmLevel);
+                            dataAlarm.setAlarmLevelDesc(alarmLevelDesc);
+
+                            dataAlarmList.add(dataAlarm);
+                        }
+
+                        //添加分发数据
+                        dataPackAlarm = new DataPackAlarm(dataPackObject);
+                        dataPackAlarm.setAlarmList(dataAlarmList);
+                        dataPackTargetList.add(new DataPackTarget(dataPackAlarm));
+                    }
+                    break;
+                case 0x1622:
+                    System.out.println("## 0x1622 - 3.2.3 根据索引 ID 取得相应的检测数据");
+                    break;
+                case 0x1623:
+                    System.out.println("## 0x1623 - 3.2.4 车辆诊断参数设定");
+                    break;
+                case 0x1624:
+                    System.out.println("## 0x1624 - 3.2.5 清空累计平均油耗");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.错误代码
+                    int resultCode = LanduDataPackUtil.readByte(buffer);
+
+                    // 6.设备回复下行命令执行结果
+                    DataPackResult dataPackResult = new DataPackResult(dataPackObject);
+                    dataPackResult.setResultCode(resultCode);
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackResult));
+                    break;
+                case 0x1625:
+                    /**
+                     * 注：V3.12之后版本不再支持
+                     */
+                    System.out.println("## 0x1625 - 3.2.6 取得系统版本信息");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.上报设备信息
+                    dataPackDevice = new DataPackDevice(dataPackObject);
+                    // 5.1 硬件版本号
+                    dataPackDevice.setHardwareVersion(LanduDataPackUtil.readString(buffer));
+                    // 5.2 固件版本号
+                    dataPackDevice.setFirmwareVersion(LanduDataPackUtil.readString(buffer));
+                    // 5.3 软件版本号
+                    dataPackDevice.setSoftwareVersion(LanduDataPackUtil.readString(buffer));
+                    // 5.4 软件类别ID
+                    dataPackDevice.setSoftwareTypeId(LanduDataPackUtil.readByte(buffer));
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackDevice));
+                    break;
+                case 0x1626:
+                    System.out.println("## 0x1626 - 3.2.7 清除车辆故障码");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.错误代码
+                    resultCode = LanduDataPackUtil.readByte(buffer);
+
+                    // 6.设备回复下行命令执行结果
+                    dataPackResult = new DataPackResult(dataPackObject);
+                    dataPackResult.setResultCode(resultCode);
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackResult));
+                    break;
+                case 0x16E0:
+                    System.out.println("## 0x16E0 - 3.3.1 恢复出厂设置");
+                    // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+                    LanduDataPackUtil.readIdentity(buffer, dataPackObject);
+
+                    // 5.错误代码
+                    resultCode = LanduDataPackUtil.readByte(buffer);
+
+                    // 6.设备回复下行命令执行结果
+                    dataPackResult = new DataPackResult(dataPackObject);
+                    dataPackResult.setResultCode(resultCode);
+                    // --add
+                    dataPackTargetList.add(new DataPackTarget(dataPackResult));
+                    break;
+                default:
+                    _logger.info("未知的协议id：" + commandId);
+                    break;
             }
-        }
 
-        return dataPackTargetList;
+        } catch (ParseException | UnsupportedEncodingException e) {
+            e.printStackTrace();
+            return false;
+        }
+        return true;
     }
 
 
@@ -1088,26 +1067,11 @@ public class DataParserLandu implements IDataParser {
         // 跳过"命令字"
         LanduDataPackUtil.readBytes(buffer, 2);
 
-        try {
-            // 1.设备号
-            metaDataMap.put("deviceId", LanduDataPackUtil.readString(buffer));
-
-            // 2.TripID
-            //buffer.readUnsignedShort();
-            LanduDataPackUtil.readDWord(buffer);
-
-            // 3.VID
-            LanduDataPackUtil.readString(buffer);
-
-            // 4.VIN
-            String s = LanduDataPackUtil.readString(buffer);
-
-            if (Pattern.matches(VIN_REG, s)) {
-                metaDataMap.put("vin", s);
-            }
-
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
+        // 1.设备号 + 2.TripID + 3.VID + 4.VIN
+        LanduIdentityCache.Identity identity = LanduDataPackUtil.readIdentity(buffer, null);
+        metaDataMap.put("deviceId", identity.getDeviceId());
+        if (identity.isVinValid()) {
+            metaDataMap.put("vin", identity.getVin());
         }
 
         // 重置readerIndex为0
@@ -0,0 +1,60 @@
+package com.incarcloud.rooster.datapack;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * LANDU 解析器接口<br>
+ *     在IDataParser基础上增加按连接切分(LanduFramer)和指定内存分配器的方法
+ *
+ * @since 2.0
+ */
+public interface ILanduDataParser extends IDataParser {
+
+    /**
+     * 抽取出完整有效的数据包，添加到调用者提供的集合<br>
+     *     数据包复制到独立的缓冲区，返回前丢弃累积缓冲区的已读字节
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器
+     * @param dataPackList 数据包集合
+     * @return 抽取的数据包个数
+     */
+    int extract(ByteBuf buffer, LanduFramer framer, Collection<DataPack> dataPackList);
+
+    /**
+     * 抽取出完整有效的数据包，逐个交给调用者处理<br>
+     *     数据包引用累积缓冲区的切片(retainedSlice)，调用者使用完毕后必须调用DataPack.freeBuf()释放，
+     *     本方法不丢弃累积缓冲区的已读字节
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器
+     * @param consumer 数据包处理
+     */
+    void extract(ByteBuf buffer, LanduFramer framer, Consumer<DataPack> consumer);
+
+    /**
+     * 抽取并解析数据包(单次遍历)<br>
+     *     解析失败(包括数据内容格式错误)的数据包不添加任何结果，也不计入返回的个数，继续解析后面的数据包
+     *
+     * @param buffer 累积缓冲区
+     * @param framer 连接对应的数据帧切分器
+     * @param dataPackTargetList 解析结果
+     * @return 解析成功的数据包个数
+     */
+    int extractBody(ByteBuf buffer, LanduFramer framer, List<DataPackTarget> dataPackTargetList);
+
+    /**
+     * 创建回复数据包
+     *
+     * @param requestPack 请求数据包
+     * @param reason 回复原因
+     * @param allocator 内存分配器(如Channel的PooledByteBufAllocator)
+     * @return 不需要回复时返回null
+     */
+    ByteBuf createResponse(DataPack requestPack, ERespReason reason, ByteBufAllocator allocator);
+}
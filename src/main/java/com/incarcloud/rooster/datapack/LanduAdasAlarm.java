@@ -0,0 +1,252 @@
+package com.incarcloud.rooster.datapack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LANDU UBI ADAS报警数据<br>
+ *     保存0x0A01数据项中0x0700显示和报警数据的原始8个字节(byte0为最高位)，
+ *     按位掩码直接读取各个标志，第一次调用getAlarmList时展开到父类的报警列表
+ *
+ * @since 2.0
+ */
+public class LanduAdasAlarm extends DataPackAlarm {
+
+    /**
+     * 时间标识(byte0 bit3~4)
+     */
+    private static final int TIME_INDICATOR_SHIFT = 56 + 3;
+    /**
+     * 显示声音类型(byte0 bit0~2)
+     */
+    private static final int SOUND_TYPE_SHIFT = 56;
+    /**
+     * 低速(byte1 bit5)
+     */
+    public static final long ZERO_SPEED = bit(1, 5);
+    /**
+     * 车头时距(byte2 bit1~7)
+     */
+    private static final int HEADWAY_SHIFT = 40 + 1;
+    /**
+     * 无错误(byte3 bit0)，为0时错误码有效
+     */
+    public static final long NO_ERROR = bit(3, 0);
+    /**
+     * 错误码(byte3 bit1~7)
+     */
+    private static final int ERROR_CODE_SHIFT = 32 + 1;
+    /**
+     * 车道偏离报警开启(byte4 bit0)
+     */
+    public static final long LDW_ON = bit(4, 0);
+    /**
+     * 左偏离车道(byte4 bit1)
+     */
+    public static final long LEFT_LDW = bit(4, 1);
+    /**
+     * 右偏离车道(byte4 bit2)
+     */
+    public static final long RIGHT_LDW = bit(4, 2);
+    /**
+     * 前方碰撞预警(byte4 bit3)
+     */
+    public static final long FCW = bit(4, 3);
+    /**
+     * 故障安全事件(byte4 bit7)
+     */
+    public static final long FAIL_SAFE = bit(4, 7);
+    /**
+     * 行人前方碰撞预警(byte5 bit1)
+     */
+    public static final long PEDS_FCW = bit(5, 1);
+    /**
+     * 前方危险区域预警(byte5 bit2)
+     */
+    public static final long PEDS_DZ = bit(5, 2);
+    /**
+     * 警告篡改(byte5 bit5)
+     */
+    public static final long TAMPER_ALERT = bit(5, 5);
+    /**
+     * 交通标志识别开启(byte5 bit7)
+     */
+    public static final long TSR_ON = bit(5, 7);
+    /**
+     * 交通标志识别警告级别(byte6 bit0~2)
+     */
+    private static final int TSR_LEVEL_SHIFT = 8;
+    /**
+     * 超速报警级别(byte7 bit0~1)
+     */
+    private static final int HMW_LEVEL_SHIFT = 0;
+
+    /**
+     * 原始数据，按字段序列化时只输出父类的报警列表
+     */
+    private transient long[] payloads = new long[1];
+
+    /**
+     * 报警数据个数
+     */
+    private transient int eventCount;
+
+    /**
+     * 父类的报警列表是否已经展开或者设置
+     */
+    private transient boolean expanded;
+
+    /**
+     * @param dataPackObject 基对象
+     */
+    public LanduAdasAlarm(DataPackObject dataPackObject) {
+        super(dataPackObject);
+    }
+
+    /**
+     * 添加一条0x0700显示和报警数据
+     *
+     * @param payload 8个字节原始数据(byte0为最高位)
+     */
+    public void addEvent(long payload) {
+        if(payloads.length == eventCount) {
+            payloads = Arrays.copyOf(payloads, eventCount << 1);
+        }
+        payloads[eventCount++] = payload;
+        expanded = false;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * 原始数据
+     *
+     * @param index 序号
+     * @return 8个字节原始数据(byte0为最高位)
+     */
+    public long getPayload(int index) {
+        if(0 > index || eventCount <= index) {
+            throw new IndexOutOfBoundsException("index: " + index + ", count: " + eventCount);
+        }
+        return payloads[index];
+    }
+
+    /**
+     * 展开为报警列表，名称和顺序与逐个创建报警时一致
+     *
+     * @return 第一次调用时创建并保存到父类，addEvent之后重新展开
+     */
+    @Override
+    public List<Alarm> getAlarmList() {
+        if(!expanded) {
+            // 每条数据至少3个报警
+            List<Alarm> list = new ArrayList<>(eventCount * 3);
+            for (int i = 0; i < eventCount; i++) {
+                expand(payloads[i], list);
+            }
+            super.setAlarmList(list);
+            expanded = true;
+        }
+        return super.getAlarmList();
+    }
+
+    /**
+     * 设置报警列表，之后getAlarmList不再展开原始数据
+     *
+     * @param alarmList 报警列表
+     */
+    @Override
+    public void setAlarmList(List<Alarm> alarmList) {
+        super.setAlarmList(alarmList);
+        expanded = true;
+    }
+
+    /**
+     * 展开一条0x0700显示和报警数据
+     *
+     * @param payload 8个字节原始数据
+     * @param list 报警列表
+     */
+    public static void expand(long payload, List<Alarm> list) {
+        // 左右偏离车道报警
+        if(isSet(payload, LDW_ON)) {
+            list.add(newAlarm("LEFTLDW", "1", "左边偏离车道"));
+            list.add(newAlarm("RIGHTLDW", "1", "右边偏离车道"));
+        }
+        // 前方碰撞预警
+        if(isSet(payload, FCW)) {
+            list.add(newAlarm("FCW", "1", "前方碰撞预警"));
+        }
+        // 行人碰撞预警
+        list.add(newAlarm("PedsDZ", "1", "前方危险区域预警"));
+        list.add(newAlarm("PedsFCW", "1", "行人前方碰撞预警"));
+        // 超速报警级别
+        list.add(newAlarm("HMW", String.valueOf(getHmwLevel(payload)), "超速报警"));
+        // 交通标志识别警告级别
+        if(isSet(payload, TSR_ON)) {
+            list.add(newAlarm("TSR", String.valueOf(getTsrLevel(payload)), "交通标志识别警告"));
+        }
+    }
+
+    /**
+     * 标志是否置位
+     *
+     * @param payload 原始数据
+     * @param mask 标志掩码，如FCW
+     * @return
+     */
+    public static boolean isSet(long payload, long mask) {
+        return 0 != (payload & mask);
+    }
+
+    public static int getTimeIndicator(long payload) {
+        return (int) (payload >>> TIME_INDICATOR_SHIFT) & 0b11;
+    }
+
+    public static int getSoundType(long payload) {
+        return (int) (payload >>> SOUND_TYPE_SHIFT) & 0b111;
+    }
+
+    public static int getHeadway(long payload) {
+        return (int) (payload >>> HEADWAY_SHIFT) & 0x7F;
+    }
+
+    /**
+     * 错误码
+     *
+     * @param payload 原始数据
+     * @return 没有错误返回-1
+     */
+    public static int getErrorCode(long payload) {
+        if(isSet(payload, NO_ERROR)) {
+            return -1;
+        }
+        return (int) (payload >>> ERROR_CODE_SHIFT) & 0x7F;
+    }
+
+    public static int getTsrLevel(long payload) {
+        return (int) (payload >>> TSR_LEVEL_SHIFT) & 0b111;
+    }
+
+    public static int getHmwLevel(long payload) {
+        return (int) (payload >>> HMW_LEVEL_SHIFT) & 0b11;
+    }
+
+    private static Alarm newAlarm(String name, String value, String desc) {
+        Alarm alarm = new Alarm();
+        alarm.setAlarmName(name);
+        alarm.setAlarmValue(value);
+        alarm.setAlarmDesc(desc);
+        return alarm;
+    }
+
+    /**
+     * 第byteIndex个字节第bitIndex位的掩码
+     */
+    private static long bit(int byteIndex, int bitIndex) {
+        return 1L << (56 - 8 * byteIndex + bitIndex);
+    }
+}
@@ -0,0 +1,497 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.LanduDataClassifyUtil;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LANDU UBI 车身数据(0x0400~0x04FF)<br>
+ *     一个数据包的车身数据项只保存一份原始字节，按数据项ID(车况槽位)记录是否存在，
+ *     数值按槽位直接读取，第一次调用getConditionList时创建车况对象并保存到父类的车况列表，
+ *     名称和描述从共享的车况表读取
+ *
+ * @since 2.0
+ */
+public class LanduConditionVector extends DataPackCondition {
+
+    /**
+     * 第一个车身数据项ID
+     */
+    public static final int FIRST_ITEM_ID = 0x0400;
+
+    /**
+     * 槽位个数(0x0400~0x04FF)
+     */
+    public static final int SLOT_COUNT = 0x100;
+
+    /**
+     * 无数值
+     */
+    public static final int NULL_VALUE = Integer.MIN_VALUE;
+
+    /**
+     * 各数据项至少需要的字节数
+     */
+    private static final byte[] MIN_LENGTHS = new byte[SLOT_COUNT];
+
+    static {
+        for (int itemId : new int[]{0x0400, 0x0401, 0x0402, 0x0403, 0x0413, 0x0416, 0x0470, 0x0471, 0x0472, 0x0474,
+                0x0480, 0x0481, 0x0482, 0x0483, 0x0484, 0x0485, 0x0486, 0x0488, 0x0489, 0x048D, 0x04A0}) {
+            MIN_LENGTHS[itemId - FIRST_ITEM_ID] = 1;
+        }
+        for (int itemId : new int[]{0x0410, 0x0411, 0x0414, 0x0415, 0x0420, 0x0440, 0x0441, 0x0443, 0x0444, 0x0445,
+                0x0446, 0x0447, 0x0448, 0x044A, 0x044E, 0x044F, 0x0473}) {
+            MIN_LENGTHS[itemId - FIRST_ITEM_ID] = 2;
+        }
+        MIN_LENGTHS[0x0412 - FIRST_ITEM_ID] = 3;
+        MIN_LENGTHS[0x0487 - FIRST_ITEM_ID] = 6;
+        MIN_LENGTHS[0x044B - FIRST_ITEM_ID] = 8;
+        MIN_LENGTHS[0x0442 - FIRST_ITEM_ID] = 18;
+    }
+
+    /**
+     * 槽位位图，按字段序列化时只输出父类的车况列表
+     */
+    private final transient long[] presence = new long[SLOT_COUNT >>> 6];
+
+    /**
+     * 数据项个数
+     */
+    private transient int itemCount;
+
+    /**
+     * 数据项ID(按上报顺序)
+     */
+    private transient short[] itemIds = new short[16];
+
+    /**
+     * 数据项在data中的起始位置，offsets[itemCount]为结束位置
+     */
+    private transient int[] offsets = new int[17];
+
+    /**
+     * 数据项原始字节(依次排列)
+     */
+    private transient byte[] data = new byte[64];
+
+    /**
+     * 父类的车况列表是否已经展开或者设置
+     */
+    private transient boolean expanded;
+
+    /**
+     * @param dataPackObject 基对象
+     */
+    public LanduConditionVector(DataPackObject dataPackObject) {
+        super(dataPackObject);
+    }
+
+    /**
+     * 添加车身数据项，复制可读字节
+     *
+     * @param itemId 数据项ID(0x0400~0x04FF)
+     * @param itemDataBuf 数据项内容
+     */
+    public void put(int itemId, ByteBuf itemDataBuf) {
+        int slot = itemId - FIRST_ITEM_ID;
+        if(0 > slot || SLOT_COUNT <= slot) {
+            throw new IllegalArgumentException("illegal condition item: " + itemId);
+        }
+        int length = itemDataBuf.readableBytes();
+        if(MIN_LENGTHS[slot] > length) {
+            throw new IndexOutOfBoundsException("item " + Integer.toHexString(itemId) + " length: " + length + ", expected: " + MIN_LENGTHS[slot]);
+        }
+
+        if(itemIds.length == itemCount) {
+            itemIds = Arrays.copyOf(itemIds, itemCount << 1);
+            offsets = Arrays.copyOf(offsets, (itemCount << 1) + 1);
+        }
+        int offset = offsets[itemCount];
+        if(data.length < offset + length) {
+            data = Arrays.copyOf(data, Math.max(data.length << 1, offset + length));
+        }
+        itemDataBuf.getBytes(itemDataBuf.readerIndex(), data, offset, length);
+
+        itemIds[itemCount] = (short) itemId;
+        offsets[++itemCount] = offset + length;
+        presence[slot >>> 6] |= 1L << slot;
+        expanded = false;
+    }
+
+    /**
+     * 是否包含数据项
+     *
+     * @param itemId 数据项ID
+     * @return
+     */
+    public boolean contains(int itemId) {
+        int slot = itemId - FIRST_ITEM_ID;
+        return 0 <= slot && SLOT_COUNT > slot && 0 != (presence[slot >>> 6] & 1L << slot);
+    }
+
+    /**
+     * 数据项个数(包括重复上报的数据项)
+     *
+     * @return
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * 数据项ID
+     *
+     * @param index 序号(按上报顺序)
+     * @return
+     */
+    public int getItemId(int index) {
+        return itemIds[index] & 0xFFFF;
+    }
+
+    /**
+     * 数据项长度
+     *
+     * @param itemId 数据项ID
+     * @return 不存在返回-1
+     */
+    public int getLength(int itemId) {
+        int index = indexOf(itemId);
+        return 0 > index ? -1 : offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * 读取数据项的一个字节
+     *
+     * @param itemId 数据项ID
+     * @param byteIndex 字节序号
+     * @return 不存在返回NULL_VALUE
+     */
+    public int getUnsignedByte(int itemId, int byteIndex) {
+        int index = indexOf(itemId);
+        if(0 > index || 0 > byteIndex || offsets[index + 1] - offsets[index] <= byteIndex) {
+            return NULL_VALUE;
+        }
+        return data[offsets[index] + byteIndex] & 0xFF;
+    }
+
+    /**
+     * 整数车况的数值，如车速、转速和仪表里程
+     *
+     * @param itemId 数据项ID
+     * @return 不存在或不是整数车况返回NULL_VALUE
+     */
+    public int getIntValue(int itemId) {
+        int index = indexOf(itemId);
+        if(0 > index) {
+            return NULL_VALUE;
+        }
+        return decodeInt(itemId, data, offsets[index]);
+    }
+
+    /**
+     * 车况数值，与车况对象的数值一致
+     *
+     * @param index 序号(按上报顺序)
+     * @return 整数、字符串或者Map，未定义的数据项返回null
+     */
+    public Object getConditionValue(int index) {
+        return decodeValue(getItemId(index), data, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    /**
+     * 车况原始数据，与车况对象的原始数据一致
+     *
+     * @param index 序号(按上报顺序)
+     * @return 未定义的数据项返回null
+     */
+    public byte[] getConditionBytes(int index) {
+        return decodeBytes(getItemId(index), data, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    /**
+     * 转换为车况列表，内容与逐项创建车况对象时一致
+     *
+     * @return 第一次调用时创建并保存到父类，put之后重新展开
+     */
+    @Override
+    public List<CarCondition> getConditionList() {
+        if(!expanded) {
+            List<CarCondition> list = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                int itemId = getItemId(i);
+                String conditionName = LanduDataClassifyUtil.getConditionName(itemId);
+                if(null != conditionName) {
+                    list.add(newCondition(itemId, conditionName, getConditionValue(i), getConditionBytes(i)));
+                }
+            }
+            super.setConditionList(list);
+            expanded = true;
+        }
+        return super.getConditionList();
+    }
+
+    /**
+     * 设置车况列表，之后getConditionList不再展开原始数据
+     *
+     * @param conditionList 车况列表
+     */
+    @Override
+    public void setConditionList(List<CarCondition> conditionList) {
+        super.setConditionList(conditionList);
+        expanded = true;
+    }
+
+    /**
+     * 最后一次上报的数据项序号
+     */
+    private int indexOf(int itemId) {
+        if(!contains(itemId)) {
+            return -1;
+        }
+        for (int i = itemCount - 1; i >= 0; i--) {
+            if(itemId == getItemId(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 解析整数车况
+     *
+     * @param itemId 数据项ID
+     * @param data 原始字节
+     * @param offset 数据项起始位置
+     * @return 不是整数车况返回NULL_VALUE
+     */
+    private static int decodeInt(int itemId, byte[] data, int offset) {
+        switch (itemId) {
+            case 0x0402:
+            case 0x0481:
+            case 0x0482:
+            case 0x0485:
+            case 0x0486:
+            case 0x048D:
+                return data[offset] & 0b00001111;
+            case 0x0403:
+                return data[offset] & 0xFF;
+            case 0x0441:
+            case 0x0443:
+            case 0x0444:
+            case 0x0445:
+            case 0x0448:
+            case 0x044E:
+            case 0x044F:
+                return (data[offset] & 0xFF) << 8 | (data[offset + 1] & 0xFF);
+            case 0x044A:
+                // 有符号WORD
+                return (short) ((data[offset] & 0xFF) << 8 | (data[offset + 1] & 0xFF));
+            case 0x0470:
+            case 0x0471:
+            case 0x0472:
+            case 0x0474:
+            case 0x0484:
+            case 0x0488:
+            case 0x0489:
+                return data[offset];
+            default:
+                return NULL_VALUE;
+        }
+    }
+
+    /**
+     * 解析车况原始数据
+     *
+     * @param itemId 数据项ID
+     * @param data 原始字节
+     * @param offset 数据项起始位置
+     * @param length 数据项长度
+     * @return 未知数据项返回null
+     */
+    private static byte[] decodeBytes(int itemId, byte[] data, int offset, int length) {
+        switch (itemId) {
+            case 0x044D://TODO??? 胎压，未解析原始数据
+                return new byte[4];
+            case 0x04A0:// 自定义透传数据(不包括最后一个字节)
+                return Arrays.copyOfRange(data, offset, offset + length - 1);
+            default:
+                if(null == LanduDataClassifyUtil.getConditionName(itemId)) {
+                    return null;
+                }
+                return Arrays.copyOfRange(data, offset, offset + MIN_LENGTHS[itemId - FIRST_ITEM_ID]);
+        }
+    }
+
+    /**
+     * 解析车况数值
+     *
+     * @param itemId 数据项ID
+     * @param data 原始字节
+     * @param offset 数据项起始位置
+     * @param length 数据项长度
+     * @return 未知数据项返回null
+     */
+    private static Object decodeValue(int itemId, byte[] data, int offset, int length) {
+        int intValue = decodeInt(itemId, data, offset);
+        if(NULL_VALUE != intValue) {
+            return intValue;
+        }
+
+        byte b0 = 0 < length ? data[offset] : 0;
+        byte b1 = 1 < length ? data[offset + 1] : 0;
+        byte b2 = 2 < length ? data[offset + 2] : 0;
+        switch (itemId) {
+            case 0x0400://钥匙状态 + 点火开关
+                Map<String,Integer> valMap0 = new HashMap<>();
+                valMap0.put("key", (b0 & 0b11110000) >>> 4);
+                valMap0.put("fireSwith", b0 & 0b00001111);
+                return valMap0;
+            case 0x0401://档位状态
+                Map<String,Integer> valMap1 = new HashMap<>();
+                valMap1.put("level1Gear", (b0 & 0b11110000) >>> 4);
+                valMap1.put("level2Gear", b0 & 0b00001111);
+                return valMap1;
+            case 0x0410://车锁
+                Map<String,Integer> valMap10 = new HashMap<>();
+                valMap10.put("carLock", b0 & 0b00000011);//车锁（0-未锁，1-已上锁）
+                valMap10.put("leftFrontDoorLock", (b0 & 0b00001100) >>> 2);//左前门锁
+                valMap10.put("rightFrontDoorLock", (b0 & 0b00110000) >>> 4);//右前门锁
+                valMap10.put("leftRearDoorLock", (b0 & 0b11000000) >>> 6);//左后门锁
+                valMap10.put("rightRearDoorLock", b1 & 0b00000011);//右后门锁
+                return valMap10;
+            case 0x0411://车门
+                Map<String,Integer> valMap11 = new HashMap<>();
+                valMap11.put("carDoor", b0 & 0b00000011);//车门总体状态（0-关，1-开）
+                valMap11.put("leftFrontDoor", (b0 & 0b00001100) >>> 2);//左前门
+                valMap11.put("rightFrontDoor", (b0 & 0b00110000) >>> 4);//右前门
+                valMap11.put("leftRearDoor", (b0 & 0b11000000) >>> 6);//左后门
+                valMap11.put("rightRearDoor", b1 & 0b00000011);//右后门
+                valMap11.put("trunkDoor", (b1 & 0b00001100) >>> 2);//后备箱/尾门
+                valMap11.put("engineHood", (b1 & 0b00110000) >>> 4);//引擎盖
+                valMap11.put("fuelTankCap", (b1 & 0b11000000) >>> 6);//油箱盖
+                return valMap11;
+            case 0x0412://车灯
+                Map<String,Integer> valMap12 = new HashMap<>();
+                valMap12.put("carLight", b0 & 0b00000011);//车灯总体状态（0-关，1-开）
+                valMap12.put("warmLight", (b0 & 0b00001100) >>> 2);//示警灯/双闪（0-关，1-开）
+                valMap12.put("turnLight", (b0 & 0b00110000) >>> 4);//转向灯
+                valMap12.put("dayRunLight", (b0 & 0b11000000) >>> 6);//日间行车灯
+                valMap12.put("widthLight", b1 & 0b00000011);//示宽灯
+                valMap12.put("nearLight", (b1 & 0b00001100) >>> 2);//近光灯
+                valMap12.put("farLight", (b1 & 0b00110000) >>> 4);//远光灯
+                valMap12.put("frontFogLight", (b1 & 0b11000000) >>> 6);//前雾灯
+                valMap12.put("backFogLight", b2 & 0b00000011);//后雾灯
+                valMap12.put("brakeLight", (b2 & 0b00001100) >>> 2);//刹车灯
+                return valMap12;
+            case 0x0413://故障灯
+                Map<String,Integer> valMap13 = new HashMap<>();
+                valMap13.put("tpmsTyreLight", b0 & 0b00000011);//TPMS轮胎灯
+                valMap13.put("esStopLight", (b0 & 0b00001100) >>> 2);//ES制动灯
+                return valMap13;
+            case 0x0414://车窗状态
+                Map<String,Integer> valMap14 = new HashMap<>();
+                valMap14.put("leftFrontWindow", b0 & 0b00000011);//左前窗（0-关窗，1-开窗，2-升窗）
+                valMap14.put("rightFrontWindow", (b0 & 0b00001100) >>> 2);//右前窗
+                valMap14.put("leftRearWindow", (b0 & 0b00110000) >>> 4);//左后窗
+                valMap14.put("rightRearWindow", (b0 & 0b11000000) >>> 6);//右后窗
+                valMap14.put("topWidow", b1 & 0b00000011);//天窗
+                valMap14.put("backWidow", (b1 & 0b00001100) >>> 2);//尾窗
+                return valMap14;
+            case 0x0415://安全带
+                Map<String,Integer> valMap15 = new HashMap<>();
+                valMap15.put("driverSafetyBbelt", b0 & 0b00000011);//主驾驶安全带（0-未系，1-已系）
+                valMap15.put("viceDriverSafetyBbelt", (b0 & 0b00001100) >>> 2);//副驾驶安全带
+                valMap15.put("leftRearSafetyBbelt", (b0 & 0b00110000) >>> 4);//后排左安全带
+                valMap15.put("midRearSafetyBbelt", (b0 & 0b11000000) >>> 6);//后排中安全带
+                valMap15.put("rightRearSafetyBbelt", b1 & 0b00000011);//后排右安全带
+                return valMap15;
+            case 0x0416://空调
+                Map<String,Integer> valMap16 = new HashMap<>();
+                valMap16.put("airConditionerRunStatus", b0 & 0b00000011);//运行状态 （0-关，1-开）
+                valMap16.put("airConditionerAirFanStatus", (b0 & 0b00001100) >>> 2); //风扇状态
+                return valMap16;
+            case 0x0420://其它
+                Map<String,Integer> valMap20 = new HashMap<>();
+                valMap20.put("carPlayer", b0 & 0b00000011);//车载影音（0-关，1-开）
+                valMap20.put("seatHeat", (b0 & 0b00001100) >>> 2);//座椅加热（0-关，1-开）
+                valMap20.put("rearviewMirror", (b0 & 0b00110000) >>> 4);//后视镜子（0-关，1-开）
+                valMap20.put("reverseMonitor", (b0 & 0b11000000) >>> 6);//可视倒车屏（0-关，1-开）
+                valMap20.put("remoteControlSound", b1 & 0b00000011);//遥控器鸣笛（0-静，1-响）
+                valMap20.put("driverType", (b1 & 0b00001100) >>> 2);//驱动类型（0-手动，1-自动）
+                valMap20.put("cruiseControlBtn", (b1 & 0b00110000) >>> 4);//定速巡航按钮（0-关，1-开）
+                valMap20.put("clutchStatus", (b1 & 0b11000000) >>> 6);//离合器（0-离，1-合）
+                return valMap20;
+            case 0x0440://剩余油量
+                Map<String,Integer> valMap40 = new HashMap<>();
+                valMap40.put("fuelCapacityUnit", (b1 & 0b10000000) >>> 7);//单位标识位，0-百分比模式，单位0.1%；1- 0.1L
+                valMap40.put("fuelCapacity", (b1 & 0b01111111) << 8 | (b0 & 0xFF));//油量值
+                return valMap40;
+            case 0x0442://VIN码
+                return new String(data, offset, 17, StandardCharsets.UTF_8);
+            case 0x0446://平均油耗
+                Map<String,Integer> valMap46 = new HashMap<>();
+                valMap46.put("aveFuelConsumptionUnit", (b1 & 0b10000000) >>> 7);//单位标识位，0-升/时（L/H）；1-升/十公里（L/10KM）
+                valMap46.put("fuelCapacity", (b1 & 0b01111111) << 8 | (b0 & 0xFF));//油量值
+                return valMap46;
+            case 0x0447://瞬时油耗
+                Map<String,Integer> valMap47 = new HashMap<>();
+                valMap47.put("unit", (b1 & 0b10000000) >>> 7);//单位标识位，0-升/时（L/H）；1-升/十公里（L/10KM）
+                valMap47.put("fuelCapacity", (b1 & 0b01111111) << 8 | (b0 & 0xFF));//油量值
+                return valMap47;
+            case 0x044B:// 轮速   单位 ：10m/h（10米/小时）
+                Map<String,Integer> valMap4B = new HashMap<>();
+                valMap4B.put("leftFrontTyreSpeed", (data[offset] & 0xFF) << 8 | (data[offset + 1] & 0xFF));
+                valMap4B.put("rightFrontTyreSpeed", (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF));
+                valMap4B.put("leftRearTyreSpeed", (data[offset + 4] & 0xFF) << 8 | (data[offset + 5] & 0xFF));
+                valMap4B.put("rightRearTyreSpeed", (data[offset + 6] & 0xFF) << 8 | (data[offset + 7] & 0xFF));
+                return valMap4B;
+            case 0x044D://TODO??? 胎压   单位 ：0.1bar
+                Map<String,Integer> valMap4D = new HashMap<>();
+                valMap4D.put("leftFrontTyrePressure", 0);
+                valMap4D.put("rightFrontTyrePressure", 0);
+                valMap4D.put("leftRearTyrePressure", 0);
+                valMap4D.put("rightRearTyrePressure", 0);
+                return valMap4D;
+            case 0x0473://刹车踏板力度  百分比（单位：1）
+                Map<String,Integer> valMap73 = new HashMap<>(2);
+                valMap73.put("brakeForce1", (int) b0);
+                valMap73.put("brakeForce2", (int) b1);
+                return valMap73;
+            case 0x0480://刹车踏板状态   0-松开，1-踩下，2-点刹，3-急刹
+                Map<String,Integer> valMap80 = new HashMap<>(2);
+                valMap80.put("brake1Status", (b0 & 0b11110000) >>> 4);
+                valMap80.put("brake2Status", b0 & 0b00001111);
+                return valMap80;
+            case 0x0483://雨刮器状态
+                Map<String,Integer> valMap83 = new HashMap<>(2);
+                valMap83.put("frontWindscreenWiper", (b0 & 0b1111000) >>> 4);
+                valMap83.put("rearWindscreenWiper", b0 & 0b00001111);
+                return valMap83;
+            case 0x0487://升窗档次  档次 （百分比）
+                Map<String,Integer> valMap87 = new HashMap<>(6);
+                valMap87.put("leftFrontWindowLiftLevel", (int) data[offset]);
+                valMap87.put("rightFrontWindowLiftLevel", (int) data[offset + 1]);
+                valMap87.put("leftRearWindowLiftLevel", (int) data[offset + 2]);
+                valMap87.put("rightRearWindowLiftLevel", (int) data[offset + 3]);
+                valMap87.put("topWindowLiftLevel", (int) data[offset + 4]);
+                valMap87.put("tailWindowLiftLevel", (int) data[offset + 5]);
+                return valMap87;
+            case 0x04A0:// 自定义透传数据
+                return Base64.getEncoder().encodeToString(Arrays.copyOfRange(data, offset, offset + length - 1));
+            default:
+                return null;
+        }
+    }
+
+    private static <T> CarCondition<T> newCondition(int itemId, String conditionName, T value, byte[] bytes) {
+        // 工况描述按槽位直接读取
+        return new CarCondition<>(conditionName, value, LanduDataClassifyUtil.getConditionDesc(itemId), bytes);
+    }
+}
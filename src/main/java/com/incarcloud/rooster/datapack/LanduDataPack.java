@@ -0,0 +1,70 @@
+package com.incarcloud.rooster.datapack;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * LANDU 数据包
+ *
+ * <p>由解析器的extract切分出来的数据包，切分时已经完成数据包标志、长度和校验和的校验，
+ * 同一个解析器的extractBody不需要再次校验。</p>
+ * <p>校验标记只对切分时设置的ByteBuf有效，调用setBuf替换或者freeBuf释放之后需要重新完整校验；
+ * 校验标记不参与序列化，从队列等其它来源得到的数据包仍然需要完整校验。</p>
+ *
+ * @since 2.0
+ */
+public class LanduDataPack extends DataPack {
+
+    /**
+     * 完成校验的解析器标记
+     */
+    private transient Object verifiedToken;
+
+    /**
+     * @param group 协议分组
+     * @param name 协议名称
+     * @param version 协议版本
+     */
+    LanduDataPack(String group, String name, String version) {
+        super(group, name, version);
+    }
+
+    /**
+     * 设置已经完成校验的数据
+     *
+     * @param buf 完整有效的数据帧
+     * @param verifiedToken 完成校验的解析器标记
+     */
+    void setVerifiedBuf(ByteBuf buf, Object verifiedToken) {
+        super.setBuf(buf);
+        this.verifiedToken = verifiedToken;
+    }
+
+    /**
+     * 替换数据，之后需要重新完整校验
+     *
+     * @param buf 数据
+     */
+    @Override
+    public void setBuf(ByteBuf buf) {
+        this.verifiedToken = null;
+        super.setBuf(buf);
+    }
+
+    @Override
+    public void freeBuf() {
+        this.verifiedToken = null;
+        super.freeBuf();
+    }
+
+    /**
+     * 判断数据包是否已经由指定解析器完成校验
+     *
+     * @param dataPack 数据包
+     * @param verifiedToken 解析器标记
+     * @return true-已经完成校验
+     */
+    static boolean isVerified(DataPack dataPack, Object verifiedToken) {
+        return dataPack instanceof LanduDataPack && null != verifiedToken
+                && verifiedToken == ((LanduDataPack) dataPack).verifiedToken;
+    }
+}
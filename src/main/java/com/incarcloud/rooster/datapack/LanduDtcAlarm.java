@@ -0,0 +1,74 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.LanduDtcUtil;
+
+/**
+ * LANDU 故障码报警<br>
+ *     在故障码字符串基础上，增加16位压缩故障码，下游按整数排序、过滤和分组，不需要再次解析字符串
+ *
+ * @since 2.0
+ */
+public class LanduDtcAlarm extends DataPackAlarm.Alarm {
+
+    /**
+     * 16位压缩故障码，不是标准故障码为LanduDtcUtil.NULL_DTC
+     */
+    private int dtc = LanduDtcUtil.NULL_DTC;
+
+    /**
+     * @param alarmName 报警名称
+     */
+    public LanduDtcAlarm(String alarmName) {
+        super(alarmName);
+    }
+
+    /**
+     * 创建故障码报警，同时压缩故障码
+     *
+     * @param alarmName 报警名称
+     * @param code 故障码
+     * @param value 故障码属性
+     * @param desc 故障码描述
+     * @return
+     */
+    public static LanduDtcAlarm valueOf(String alarmName, String code, String value, String desc) {
+        LanduDtcAlarm dtcAlarm = new LanduDtcAlarm(alarmName);
+        dtcAlarm.setAlarmCode(code);
+        dtcAlarm.setAlarmValue(value);
+        dtcAlarm.setAlarmDesc(desc);
+        return dtcAlarm;
+    }
+
+    /**
+     * 设置故障码，同时压缩故障码
+     *
+     * @param alarmCode 故障码
+     */
+    @Override
+    public void setAlarmCode(String alarmCode) {
+        super.setAlarmCode(alarmCode);
+        this.dtc = LanduDtcUtil.pack(alarmCode);
+    }
+
+    public int getDtc() {
+        return dtc;
+    }
+
+    /**
+     * 是否标准故障码
+     *
+     * @return
+     */
+    public boolean isStandardDtc() {
+        return LanduDtcUtil.NULL_DTC != dtc;
+    }
+
+    /**
+     * 系统
+     *
+     * @return LanduDtcUtil.SYSTEM_*，不是标准故障码返回-1
+     */
+    public int getDtcSystem() {
+        return isStandardDtc() ? LanduDtcUtil.getSystem(dtc) : -1;
+    }
+}
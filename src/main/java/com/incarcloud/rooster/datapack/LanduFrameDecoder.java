@@ -0,0 +1,108 @@
+package com.incarcloud.rooster.datapack;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.util.List;
+
+/**
+ * LANDU Netty解码器
+ *
+ * <p>直接在Channel的累积缓冲区(cumulation)上切分数据包，输出DataPack给后续的ChannelHandler，
+ * 每个连接对应一个流式模式的LanduFramer，未完整的数据包不会重复校验，集中补发的大量数据也不会整体丢弃。</p>
+ * <p>自动回复时使用Channel的内存分配器(通常为PooledByteBufAllocator)创建回复数据包，
+ * 直接写入Channel，由Netty在发送完成后释放。</p>
+ *
+ * <pre>
+ * pipeline.addLast(new LanduFrameDecoder(new DataParserLandu()));
+ * </pre>
+ *
+ * <p>输出的DataPack引用累积缓冲区的切片(retainedSlice)，后续的ChannelHandler使用完毕后必须调用DataPack.freeBuf()释放；
+ * 切片未释放前ByteToMessageDecoder不会丢弃累积缓冲区的已读字节，切片内容不会被覆盖。</p>
+ * <p>ByteToMessageDecoder不能共享，每个Channel必须创建新的LanduFrameDecoder对象。</p>
+ *
+ * @since 2.0
+ */
+public class LanduFrameDecoder extends ByteToMessageDecoder {
+
+    /**
+     * 解析器
+     */
+    private final ILanduDataParser parser;
+
+    /**
+     * 是否自动回复
+     */
+    private final boolean autoResponse;
+
+    /**
+     * 连接对应的数据帧切分器(流式模式)
+     */
+    private final LanduFramer framer;
+
+    /**
+     * @param parser 解析器
+     */
+    public LanduFrameDecoder(ILanduDataParser parser) {
+        this(parser, true);
+    }
+
+    /**
+     * @param parser 解析器
+     * @param autoResponse 是否自动回复
+     */
+    public LanduFrameDecoder(ILanduDataParser parser, boolean autoResponse) {
+        this(parser, autoResponse, LanduFramer.MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * @param parser 解析器
+     * @param autoResponse 是否自动回复
+     * @param maxFrameLength 单个数据帧最大长度
+     */
+    public LanduFrameDecoder(ILanduDataParser parser, boolean autoResponse, int maxFrameLength) {
+        this(parser, autoResponse, maxFrameLength, 0);
+    }
+
+    /**
+     * @param parser 解析器
+     * @param autoResponse 是否自动回复
+     * @param maxFrameLength 单个数据帧最大长度
+     * @param resyncLookahead 误判数据包头检查的最大字节数，0表示不检查，参考{@link LanduFramer}
+     */
+    public LanduFrameDecoder(ILanduDataParser parser, boolean autoResponse, int maxFrameLength, int resyncLookahead) {
+        if(null == parser) {
+            throw new IllegalArgumentException("parser is null");
+        }
+        this.parser = parser;
+        this.autoResponse = autoResponse;
+        this.framer = new LanduFramer(maxFrameLength, true, resyncLookahead);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        int size = out.size();
+        parser.extract(in, framer, dataPack -> {
+            out.add(dataPack);
+            if(autoResponse) {
+                ByteBuf responseBuf = parser.createResponse(dataPack, ERespReason.OK, ctx.alloc());
+                if(null != responseBuf) {
+                    // 写入后由Netty释放
+                    ctx.write(responseBuf, ctx.voidPromise());
+                }
+            }
+        });
+
+        // 一次读取的全部回复合并发送
+        if(autoResponse && size < out.size()) {
+            ctx.flush();
+        }
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        // 累积缓冲区已经释放
+        framer.reset();
+    }
+}
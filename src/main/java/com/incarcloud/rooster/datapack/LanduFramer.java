@@ -0,0 +1,283 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.LanduChecksumUtil;
+import com.incarcloud.rooster.util.LanduFrameUtil;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * LANDU 数据帧切分器
+ *
+ * <p>一个连接(Channel)对应一个LanduFramer对象，记录未接收完整的数据帧状态(长度和已累加的校验和)，
+ * 后续数据到达时只处理新到达的字节，不再重复校验数据包头和累加校验和。</p>
+ * <p>LanduFramer不是线程安全的，且只能用于同一个累积缓冲区(cumulation)。</p>
+ * <p>流式模式(streaming)下不再按缓冲区大小整体丢弃数据，而是逐个消费完整的数据帧，只跳过不可能属于有效数据帧的字节，
+ * 并限制单个数据帧的最大长度，适合设备断线重连后集中补发的大量数据。</p>
+ * <p>重新同步(resync)：数据内容中出现AA55且后面4个字节恰好通过长度取反校验时，会被误判为数据包头，
+ * 等待永远不会到达的数据，阻塞后面所有正常的数据包。开启后在等待期间检查声明的长度范围内(前resyncLookahead个字节)
+ * 是否已经出现完整有效的数据帧，如果出现则放弃误判的数据包头，并记录次数。
+ * 默认不开启：分段到达的正常数据帧如果内容中包含完整有效的数据帧(如0x1605透传数据)，开启后会被当作误判丢弃。</p>
+ *
+ * <pre>
+ * ## LANDU数据包格式 ##
+ * 0,1: 数据包标志(AA55  2个字节)
+ * 2,3: 数据包长度，包括从【数据包长度】起至【校验和】止的所有字节数量，不是整个包的长度(2个字节)
+ * 4,5: 数据包长度校验(数据包长度取反   2个字节)
+ * 6: 数据包ID  (1个字节)
+ * 7: 保留字节(协议格式版本, v2.05-0x02, v3.08-0x05     1个字节)
+ * ...: 数据内容(其长度为【数据包长度】– 4 – 2   不定长度)
+ * 最后2字节: 校验和(【数据包长度】开始至全部【数据内容】结束止的所有字节产累加之和)
+ * </pre>
+ *
+ * @since 2.0
+ */
+public class LanduFramer {
+
+    /**
+     * 数据包准许最大容量2M
+     */
+    public static final int DISCARDS_MAX_LENGTH = 1024 * 1024 * 2;
+
+    /**
+     * 一个包最小10个字节
+     */
+    public static final int MIN_FRAME_LENGTH = 10;
+
+    /**
+     * 一个包最大长度(2字节数据包长度 + 2字节标志)
+     */
+    public static final int MAX_FRAME_LENGTH = 0xFFFF + 2;
+
+    /**
+     * 数据帧回调
+     */
+    public interface FrameListener {
+
+        /**
+         * 找到一个完整有效的数据帧
+         *
+         * @param buffer 累积缓冲区
+         * @param offset 数据帧起始位置(AA55)
+         * @param length 数据帧总长度(数据包长度 + 2)
+         */
+        void onFrame(ByteBuf buffer, int offset, int length);
+    }
+
+    /**
+     * 单个数据帧最大长度
+     */
+    private final int maxFrameLength;
+
+    /**
+     * 是否流式模式
+     */
+    private final boolean streaming;
+
+    /**
+     * 重新同步检查的最大字节数，0表示不检查
+     */
+    private final int resyncLookahead;
+
+    /**
+     * 未完整数据帧已检查过的字节数(相对数据帧起始位置)
+     */
+    private int resyncCheckedBytes;
+
+    /**
+     * 放弃误判数据包头的次数
+     */
+    private long falseHeaderCount;
+
+    /**
+     * 未完整数据帧的【数据包长度】，-1表示没有未完整的数据帧
+     */
+    private int pendingLength = -1;
+
+    /**
+     * 未完整数据帧已累加校验和的字节数(相对数据帧起始位置)
+     */
+    private int checkedBytes;
+
+    /**
+     * 未完整数据帧已累加的校验和
+     */
+    private int partialSum;
+
+    /**
+     * 兼容模式，缓冲区超过DISCARDS_MAX_LENGTH时整体丢弃
+     */
+    public LanduFramer() {
+        this(MAX_FRAME_LENGTH, false);
+    }
+
+    /**
+     * @param maxFrameLength 单个数据帧最大长度(包括数据包标志和校验和)，超过的数据包头视为无效
+     * @param streaming 是否流式模式，true-不按缓冲区大小整体丢弃数据
+     */
+    public LanduFramer(int maxFrameLength, boolean streaming) {
+        this(maxFrameLength, streaming, 0);
+    }
+
+    /**
+     * @param maxFrameLength 单个数据帧最大长度(包括数据包标志和校验和)，超过的数据包头视为无效
+     * @param streaming 是否流式模式，true-不按缓冲区大小整体丢弃数据
+     * @param resyncLookahead 重新同步检查的最大字节数，0表示不检查，maxFrameLength表示检查整个声明的长度范围
+     */
+    public LanduFramer(int maxFrameLength, boolean streaming, int resyncLookahead) {
+        if(MIN_FRAME_LENGTH > maxFrameLength || MAX_FRAME_LENGTH < maxFrameLength) {
+            throw new IllegalArgumentException("maxFrameLength: " + maxFrameLength);
+        }
+        if(0 > resyncLookahead) {
+            throw new IllegalArgumentException("resyncLookahead: " + resyncLookahead);
+        }
+        this.maxFrameLength = maxFrameLength;
+        this.streaming = streaming;
+        this.resyncLookahead = resyncLookahead;
+    }
+
+    /**
+     * 抽取出完整有效的数据帧，跳过已经解析或无用的字节<br>
+     *     不丢弃已读字节(discardSomeReadBytes)：回调中创建的切片可能还在使用，由调用者在切片使用完毕后丢弃，
+     *     Netty的ByteToMessageDecoder在传递给后续ChannelHandler之后自动丢弃
+     *
+     * @param buffer 累积缓冲区
+     * @param listener 数据帧回调
+     */
+    public void frame(ByteBuf buffer, FrameListener listener) {
+        // 长度大于2M的数据包直接抛弃(恶意数据)，流式模式下由单个数据帧最大长度限制
+        if(!streaming && DISCARDS_MAX_LENGTH < buffer.readableBytes()) {
+            buffer.clear();
+            reset();
+        }
+        // 缓冲区被外部修改，未完整数据帧的状态已失效
+        if(buffer.readableBytes() < checkedBytes) {
+            reset();
+        }
+
+        int offset, max, length, sumCheck;
+        while(buffer.isReadable()) {
+            if(0 > pendingLength) {
+                // 跳过垃圾数据，直接定位到下一个数据包标志
+                if(!LanduFrameUtil.skipToSyncWord(buffer)) {
+                    break;
+                }
+                offset = buffer.readerIndex();
+                if(MIN_FRAME_LENGTH > (buffer.writerIndex() - offset)) {
+                    break;
+                }
+                // 获取包长度并校验(取反校验+最小长度+最大长度)
+                if(buffer.getByte(offset + 2) != ~buffer.getByte(offset + 4)
+                        || buffer.getByte(offset + 3) != ~buffer.getByte(offset + 5)) {
+                    buffer.skipBytes(1);
+                    continue;
+                }
+                length = (buffer.getByte(offset + 2) & 0xFF) << 8 | (buffer.getByte(offset + 3) & 0xFF);
+                if(MIN_FRAME_LENGTH - 2 > length || maxFrameLength - 2 < length) {
+                    buffer.skipBytes(1);
+                    continue;
+                }
+                pendingLength = length;
+                checkedBytes = 2;
+                partialSum = 0;
+            }
+
+            offset = buffer.readerIndex();
+            max = buffer.writerIndex();
+            length = pendingLength;
+
+            // 只累加新到达的字节
+            int end = Math.min(offset + length, max);
+            partialSum += LanduChecksumUtil.sum(buffer, offset + checkedBytes, end);
+            checkedBytes = end - offset;
+
+            // 检验包是否完整(length + 2)
+            if(length > (max - offset - 2)) {
+                // 声明的长度范围内已经出现完整有效的数据帧，说明是数据内容中的AA55被误判为数据包头
+                if(0 < resyncLookahead && hasFrameWithin(buffer, offset, max)) {
+                    falseHeaderCount++;
+                    reset();
+                    buffer.skipBytes(1);
+                    continue;
+                }
+                // 包长度不够，可能是tcp拆包引起的半个包情况，等缓存区积累够了再继续
+                break;
+            }
+
+            // 检验校验和
+            sumCheck = LanduChecksumUtil.getChecksum(buffer, offset + length);
+            boolean valid = partialSum == sumCheck;
+            reset();
+            if(valid) {
+                // 先跳过数据帧再回调，回调抛出异常时不会重复处理同一个数据帧
+                buffer.skipBytes(length + 2);
+                listener.onFrame(buffer, offset, length + 2);
+            } else {
+                // 不符合条件，向前跳跃1
+                buffer.skipBytes(1);
+            }
+        }
+    }
+
+    /**
+     * 检查未完整数据帧声明的长度范围内是否已经出现完整有效的数据帧<br>
+     *     只检查新到达的字节，未完整的候选数据帧等数据到达后再检查
+     *
+     * @param buffer 累积缓冲区
+     * @param offset 未完整数据帧起始位置
+     * @param max 缓冲区结束位置
+     * @return true-出现完整有效的数据帧
+     */
+    private boolean hasFrameWithin(ByteBuf buffer, int offset, int max) {
+        int to = Math.min(max, offset + resyncLookahead);
+        int i = offset + Math.max(1, resyncCheckedBytes);
+        int length;
+        while(0 <= (i = LanduFrameUtil.indexOfSyncWord(buffer, i, to))) {
+            if(MIN_FRAME_LENGTH > (max - i)) {
+                break;
+            }
+            if(buffer.getByte(i + 2) == ~buffer.getByte(i + 4) && buffer.getByte(i + 3) == ~buffer.getByte(i + 5)) {
+                length = (buffer.getByte(i + 2) & 0xFF) << 8 | (buffer.getByte(i + 3) & 0xFF);
+                if(MIN_FRAME_LENGTH - 2 <= length && maxFrameLength - 2 >= length) {
+                    if(length > (max - i - 2)) {
+                        // 候选数据帧未完整
+                        break;
+                    }
+                    if(LanduChecksumUtil.sum(buffer, i + 2, i + length) == LanduChecksumUtil.getChecksum(buffer, i + length)) {
+                        return true;
+                    }
+                }
+            }
+            i++;
+        }
+        // 下次从未确定的位置继续检查
+        resyncCheckedBytes = (0 > i ? Math.max(to - 1, offset + 1) : i) - offset;
+        return false;
+    }
+
+    /**
+     * 放弃误判数据包头的次数
+     *
+     * @return 次数
+     */
+    public long getFalseHeaderCount() {
+        return falseHeaderCount;
+    }
+
+    /**
+     * 是否有未完整的数据帧
+     *
+     * @return true-有
+     */
+    public boolean hasPendingFrame() {
+        return 0 <= pendingLength;
+    }
+
+    /**
+     * 清除未完整数据帧的状态
+     */
+    public void reset() {
+        pendingLength = -1;
+        checkedBytes = 0;
+        partialSum = 0;
+        resyncCheckedBytes = 0;
+    }
+}
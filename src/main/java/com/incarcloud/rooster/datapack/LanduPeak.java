@@ -0,0 +1,112 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.LanduDataClassifyUtil;
+import com.incarcloud.rooster.util.LanduPeakFormat;
+
+/**
+ * LANDU 极值数据<br>
+ *     在极值内容字符串基础上，增加按极值格式解析得到的数值，下游不需要再次解析字符串
+ *
+ * @since 2.0
+ */
+public class LanduPeak extends DataPackPeak.Peak {
+
+    /**
+     * 极值类型
+     */
+    private LanduPeakFormat.Type valueType = LanduPeakFormat.Type.STRING;
+
+    /**
+     * 数值(定点数：数值 * 10^scale，枚举：选项序号)
+     */
+    private long value = LanduPeakFormat.NULL_VALUE;
+
+    /**
+     * 小数位数
+     */
+    private int scale;
+
+    /**
+     * 数值是否有效(解析成功且在取值范围内)
+     */
+    private boolean valid;
+
+    /**
+     * @param peakId 极值ID
+     * @param peakValue 极值内容
+     */
+    public LanduPeak(Integer peakId, String peakValue) {
+        super(peakId, peakValue);
+    }
+
+    /**
+     * 创建极值数据，按极值数据表完善名称、单位和描述，并按极值格式解析数值
+     *
+     * @param peakId 极值ID
+     * @param peakValue 极值内容
+     * @return
+     */
+    public static LanduPeak valueOf(int peakId, String peakValue) {
+        return valueOf(peakId, peakValue, LanduDataClassifyUtil.getPeak(peakId));
+    }
+
+    /**
+     * 创建极值数据，按指定的极值数据表完善名称、单位和描述，并按极值格式解析数值
+     *
+     * @param peakId 极值ID
+     * @param peakValue 极值内容
+     * @param tempatePeak 极值数据表，null表示未定义的数据项
+     * @return
+     */
+    public static LanduPeak valueOf(int peakId, String peakValue, LanduDataClassifyUtil.Peak tempatePeak) {
+        LanduPeak dataPeak = new LanduPeak(peakId, peakValue);
+        if(null != tempatePeak) {
+            dataPeak.setPeakName(tempatePeak.getPeakName());
+            dataPeak.setPeakUnit(tempatePeak.getPeakUnit());
+            dataPeak.setPeakDesc(tempatePeak.getPeakDesc());
+            dataPeak.decode(tempatePeak.getPeakFormat(), peakValue);
+        }
+        return dataPeak;
+    }
+
+    /**
+     * 按极值格式解析极值内容
+     *
+     * @param peakFormat 极值格式
+     * @param peakValue 极值内容
+     */
+    public void decode(LanduPeakFormat peakFormat, String peakValue) {
+        this.valueType = peakFormat.getType();
+        this.scale = peakFormat.getScale();
+        this.value = peakFormat.parse(peakValue);
+        this.valid = peakFormat.isValid(value);
+    }
+
+    /**
+     * 数值转换为double
+     *
+     * @return 无数值返回Double.NaN
+     */
+    public double getDoubleValue() {
+        if(LanduPeakFormat.NULL_VALUE == value) {
+            return Double.NaN;
+        }
+        return 0 == scale ? value : value / Math.pow(10, scale);
+    }
+
+    public LanduPeakFormat.Type getValueType() {
+        return valueType;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+}
@@ -0,0 +1,190 @@
+package com.incarcloud.rooster.datapack;
+
+import com.incarcloud.rooster.util.LanduDataClassifyUtil;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LANDU 极值数据(列式存储)<br>
+ *     0x1601行驶数据、0x1607冻结帧和0x1608怠速数据通常包含几十个极值，
+ *     按列保存数据项ID、解析后的数值和内容字节，每个数据包只创建固定数量的对象，
+ *     按序号读取时不创建Peak对象，内容字符串只在读取时解码<br>
+ *     极值数据表在解析时确定，之后修改极值数据表不影响已经解析的数据，
+ *     第一次调用getPeakList时创建Peak对象并保存到父类的极值列表
+ *
+ * @since 2.0
+ */
+public class LanduPeakBatch extends DataPackPeak {
+
+    private static final Charset GBK = Charset.forName("GBK");
+
+    /**
+     * 极值个数，按字段序列化时只输出父类的极值列表
+     */
+    private final transient int peakCount;
+
+    /**
+     * 数据项ID(无符号WORD)
+     */
+    private final transient short[] peakIds;
+
+    /**
+     * 解析时的极值数据表(未定义的数据项为null)
+     */
+    private final transient LanduDataClassifyUtil.Peak[] tempatePeaks;
+
+    /**
+     * 数值(定点数：数值 * 10^scale，枚举：选项序号，无数值：LanduPeakFormat.NULL_VALUE)
+     */
+    private final transient long[] values;
+
+    /**
+     * 数据项内容在contents中的起始位置
+     */
+    private final transient int[] contentOffsets;
+
+    /**
+     * 极值数据的原始字节(数据项ID + 数据项内容 + 结束符，依次排列)
+     */
+    private final transient byte[] contents;
+
+    /**
+     * 父类的极值列表是否已经展开或者设置
+     */
+    private transient boolean expanded;
+
+    /**
+     * @param dataPackObject 基对象
+     * @param peakCount 极值个数
+     * @param peakIds 数据项ID
+     * @param tempatePeaks 解析时的极值数据表
+     * @param values 数值
+     * @param contentOffsets 内容起始位置
+     * @param contents 极值数据的原始字节
+     */
+    public LanduPeakBatch(DataPackObject dataPackObject, int peakCount, short[] peakIds, LanduDataClassifyUtil.Peak[] tempatePeaks,
+                          long[] values, int[] contentOffsets, byte[] contents) {
+        super(dataPackObject);
+        this.peakCount = peakCount;
+        this.peakIds = peakIds;
+        this.tempatePeaks = tempatePeaks;
+        this.values = values;
+        this.contentOffsets = contentOffsets;
+        this.contents = contents;
+    }
+
+    /**
+     * 极值个数
+     *
+     * @return
+     */
+    public int getPeakCount() {
+        return peakCount;
+    }
+
+    /**
+     * 数据项ID
+     *
+     * @param index 序号
+     * @return
+     */
+    public int getPeakId(int index) {
+        return peakIds[index] & 0xFFFF;
+    }
+
+    /**
+     * 数值
+     *
+     * @param index 序号
+     * @return 定点数返回数值 * 10^scale，枚举返回选项序号，无数值返回LanduPeakFormat.NULL_VALUE
+     */
+    public long getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * 数值是否有效(解析成功且在取值范围内)
+     *
+     * @param index 序号
+     * @return
+     */
+    public boolean isValid(int index) {
+        return null != tempatePeaks[index] && tempatePeaks[index].getPeakFormat().isValid(values[index]);
+    }
+
+    /**
+     * 解析时的极值数据表
+     *
+     * @param index 序号
+     * @return 未定义的数据项返回null
+     */
+    public LanduDataClassifyUtil.Peak getTempatePeak(int index) {
+        return tempatePeaks[index];
+    }
+
+    /**
+     * 数据项内容(每次调用解码新的字符串)
+     *
+     * @param index 序号
+     * @return
+     */
+    public String getContent(int index) {
+        return new String(contents, contentOffsets[index], contentLength(index), GBK);
+    }
+
+    /**
+     * 转换为极值列表，兼容按Peak对象处理的调用者
+     *
+     * @return 第一次调用时创建并保存到父类
+     */
+    @Override
+    public List<Peak> getPeakList() {
+        if(!expanded) {
+            List<Peak> dataPeakList = new ArrayList<>(peakCount);
+            for (int i = 0; i < peakCount; i++) {
+                dataPeakList.add(LanduPeak.valueOf(getPeakId(i), getContent(i), tempatePeaks[i]));
+            }
+            super.setPeakList(dataPeakList);
+            expanded = true;
+        }
+        return super.getPeakList();
+    }
+
+    /**
+     * 设置极值列表，之后getPeakList不再展开原始数据
+     *
+     * @param peakList 极值列表
+     */
+    @Override
+    public void setPeakList(List<Peak> peakList) {
+        super.setPeakList(peakList);
+        expanded = true;
+    }
+
+    /**
+     * 内容长度(不包括结束符)
+     *
+     * @param index 序号
+     * @return
+     */
+    public int getContentLength(int index) {
+        return contentLength(index);
+    }
+
+    /**
+     * 内容长度，后面紧跟结束符和下一个数据项ID(2个字节)
+     */
+    private int contentLength(int index) {
+        if(index + 1 < peakCount) {
+            return contentOffsets[index + 1] - 3 - contentOffsets[index];
+        }
+        // 最后一个内容可能没有结束符
+        int end = contents.length;
+        if(contentOffsets[index] < end && 0x00 == contents[end - 1]) {
+            end--;
+        }
+        return end - contentOffsets[index];
+    }
+}
@@ -0,0 +1,185 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * LANDU 按原始字节查找的缓存<br>
+ *     键为ByteBuf中的1个或3个字节区间，命中时只比较字节，不复制也不解码；
+ *     堆内存ByteBuf直接读取底层数组<br>
+ *     直接映射表，哈希冲突时新值替换旧值，缓存大小固定；可以在多个线程之间共享
+ *
+ * @param <V> 缓存值类型
+ * @since 2.0
+ */
+public final class LanduByteKeyCache<V> {
+
+    /**
+     * 缓存项
+     */
+    private static final class Entry<V> {
+
+        private final int hash;
+        private final byte[][] keys;
+        private final V value;
+
+        private Entry(int hash, byte[][] keys, V value) {
+            this.hash = hash;
+            this.keys = keys;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 缓存表(长度为2的n次方)
+     */
+    private final Entry<V>[] entries;
+
+    /**
+     * @param capacity 缓存项个数(向上取2的n次方)
+     */
+    @SuppressWarnings("unchecked")
+    public LanduByteKeyCache(int capacity) {
+        if(0 >= capacity) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        int size = 1;
+        while (size < capacity && size < (1 << 30)) {
+            size <<= 1;
+        }
+        this.entries = new Entry[size];
+    }
+
+    /**
+     * 查找缓存值，不改变readerIndex
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param length 字节数
+     * @return 没有时返回null
+     */
+    public V get(ByteBuf buffer, int index, int length) {
+        int hash = hash(buffer, index, length, 1);
+        Entry<V> entry = entries[slot(hash)];
+        if(null != entry && hash == entry.hash && 1 == entry.keys.length
+                && equals(entry.keys[0], buffer, index, length)) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * 查找缓存值(3个字节区间)，不改变readerIndex
+     *
+     * @param buffer ByteBuf
+     * @param index0 第1个区间起始位置
+     * @param length0 第1个区间字节数
+     * @param index1 第2个区间起始位置
+     * @param length1 第2个区间字节数
+     * @param index2 第3个区间起始位置
+     * @param length2 第3个区间字节数
+     * @return 没有时返回null
+     */
+    public V get(ByteBuf buffer, int index0, int length0, int index1, int length1, int index2, int length2) {
+        int hash = hash(buffer, index0, length0, index1, length1, index2, length2);
+        Entry<V> entry = entries[slot(hash)];
+        if(null != entry && hash == entry.hash && 3 == entry.keys.length
+                && equals(entry.keys[0], buffer, index0, length0)
+                && equals(entry.keys[1], buffer, index1, length1)
+                && equals(entry.keys[2], buffer, index2, length2)) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * 缓存值，复制键的字节
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param length 字节数
+     * @param value 缓存值
+     */
+    public void put(ByteBuf buffer, int index, int length, V value) {
+        int hash = hash(buffer, index, length, 1);
+        // 替换旧的缓存项，并发写入时保留任意一个都是正确的
+        entries[slot(hash)] = new Entry<>(hash, new byte[][]{copy(buffer, index, length)}, value);
+    }
+
+    /**
+     * 缓存值(3个字节区间)，复制键的字节
+     *
+     * @param buffer ByteBuf
+     * @param index0 第1个区间起始位置
+     * @param length0 第1个区间字节数
+     * @param index1 第2个区间起始位置
+     * @param length1 第2个区间字节数
+     * @param index2 第3个区间起始位置
+     * @param length2 第3个区间字节数
+     * @param value 缓存值
+     */
+    public void put(ByteBuf buffer, int index0, int length0, int index1, int length1, int index2, int length2, V value) {
+        int hash = hash(buffer, index0, length0, index1, length1, index2, length2);
+        entries[slot(hash)] = new Entry<>(hash, new byte[][]{
+                copy(buffer, index0, length0), copy(buffer, index1, length1), copy(buffer, index2, length2)}, value);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = null;
+        }
+    }
+
+    private int slot(int hash) {
+        return (hash ^ hash >>> 16) & (entries.length - 1);
+    }
+
+    private static int hash(ByteBuf buffer, int index0, int length0, int index1, int length1, int index2, int length2) {
+        return hash(buffer, index2, length2, hash(buffer, index1, length1, hash(buffer, index0, length0, 1)));
+    }
+
+    private static int hash(ByteBuf buffer, int index, int length, int hash) {
+        if(buffer.hasArray()) {
+            byte[] array = buffer.array();
+            for (int i = buffer.arrayOffset() + index, end = i + length; i < end; i++) {
+                hash = 31 * hash + array[i];
+            }
+        } else {
+            for (int i = index, end = index + length; i < end; i++) {
+                hash = 31 * hash + buffer.getByte(i);
+            }
+        }
+        // 区分字节区间边界
+        return 31 * hash + length;
+    }
+
+    private static boolean equals(byte[] bytes, ByteBuf buffer, int index, int length) {
+        if(bytes.length != length) {
+            return false;
+        }
+        if(buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset() + index;
+            for (int i = 0; i < length; i++) {
+                if(bytes[i] != array[offset + i]) {
+                    return false;
+                }
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if(bytes[i] != buffer.getByte(index + i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static byte[] copy(ByteBuf buffer, int index, int length) {
+        byte[] bytes = new byte[length];
+        buffer.getBytes(index, bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,130 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * LANDU 校验和工具类<br>
+ *     校验和为所有字节(无符号)的累加之和，与字节顺序无关，所以每次读取8个字节按字节通道(SWAR)累加
+ *
+ * @since 2.0
+ */
+public class LanduChecksumUtil {
+
+    /**
+     * 是否可以直接读取非对齐的8字节数据
+     */
+    private static final boolean WORD_ACCESS = PlatformDependent.hasUnsafe() && PlatformDependent.isUnaligned();
+
+    /**
+     * 4个16位通道，每个通道存放1个字节
+     */
+    private static final long LANE_MASK = 0x00FF00FF00FF00FFL;
+
+    /**
+     * 每个8字节最多给16位通道累加 2 * 255，累加128次后必须合并，避免溢出
+     */
+    private static final int FOLD_WORDS = 128;
+
+    /**
+     * 计算字节数组的校验和
+     *
+     * @param bytes 字节数组
+     * @param fromIndex 起始位置(包含)
+     * @param toIndex 结束位置(不包含)
+     * @return 校验和
+     */
+    public static int sum(byte[] bytes, int fromIndex, int toIndex) {
+        if(0 > fromIndex || fromIndex > toIndex || toIndex > bytes.length) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", length: " + bytes.length);
+        }
+
+        int sum = 0;
+        int i = fromIndex;
+        if(WORD_ACCESS) {
+            while (8 <= toIndex - i) {
+                long lanes = 0;
+                for (int n = Math.min((toIndex - i) >>> 3, FOLD_WORDS); 0 < n; n--, i += 8) {
+                    long word = PlatformDependent.getLong(bytes, i);
+                    lanes += (word & LANE_MASK) + ((word >>> 8) & LANE_MASK);
+                }
+                sum += foldLanes(lanes);
+            }
+        }
+        for (; i < toIndex; i++) {
+            sum += (bytes[i] & 0xFF);
+        }
+        return sum;
+    }
+
+    /**
+     * 计算ByteBuf的校验和，不改变readerIndex<br>
+     *     堆内存直接读取数组，未释放的直接内存按地址读取，其它类型(如CompositeByteBuf)按getLong读取
+     *
+     * @param buffer ByteBuf
+     * @param fromIndex 起始位置(包含)
+     * @param toIndex 结束位置(不包含)
+     * @return 校验和
+     */
+    public static int sum(ByteBuf buffer, int fromIndex, int toIndex) {
+        if(0 > fromIndex || fromIndex > toIndex || toIndex > buffer.capacity()) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", capacity: " + buffer.capacity());
+        }
+
+        // 1.堆内存
+        if(buffer.hasArray()) {
+            int arrayOffset = buffer.arrayOffset();
+            return sum(buffer.array(), arrayOffset + fromIndex, arrayOffset + toIndex);
+        }
+
+        int sum = 0;
+        int i = fromIndex;
+        // 已释放的ByteBuf按getLong读取，抛出IllegalReferenceCountException，不读取已释放或重新分配的内存
+        if(WORD_ACCESS && buffer.hasMemoryAddress() && 0 < buffer.refCnt()) {
+            // 2.直接内存
+            long address = buffer.memoryAddress();
+            while (8 <= toIndex - i) {
+                long lanes = 0;
+                for (int n = Math.min((toIndex - i) >>> 3, FOLD_WORDS); 0 < n; n--, i += 8) {
+                    long word = PlatformDependent.getLong(address + i);
+                    lanes += (word & LANE_MASK) + ((word >>> 8) & LANE_MASK);
+                }
+                sum += foldLanes(lanes);
+            }
+        } else {
+            // 3.其它
+            while (8 <= toIndex - i) {
+                long lanes = 0;
+                for (int n = Math.min((toIndex - i) >>> 3, FOLD_WORDS); 0 < n; n--, i += 8) {
+                    long word = buffer.getLong(i);
+                    lanes += (word & LANE_MASK) + ((word >>> 8) & LANE_MASK);
+                }
+                sum += foldLanes(lanes);
+            }
+        }
+        for (; i < toIndex; i++) {
+            sum += (buffer.getByte(i) & 0xFF);
+        }
+        return sum;
+    }
+
+    /**
+     * 读取校验和字段(2个字节，高位字节在前)
+     *
+     * @param buffer ByteBuf
+     * @param index 位置
+     * @return 校验和字段值
+     */
+    public static int getChecksum(ByteBuf buffer, int index) {
+        return (buffer.getByte(index) & 0xFF) << 8 | (buffer.getByte(index + 1) & 0xFF);
+    }
+
+    /**
+     * 合并4个16位通道
+     */
+    private static int foldLanes(long lanes) {
+        return (int) ((lanes & 0xFFFF) + ((lanes >>> 16) & 0xFFFF) + ((lanes >>> 32) & 0xFFFF) + (lanes >>> 48));
+    }
+
+    protected LanduChecksumUtil() {}
+}
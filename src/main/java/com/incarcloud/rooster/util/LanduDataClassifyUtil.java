@@ -1,10 +1,26 @@
 package com.incarcloud.rooster.util;
 
+import com.incarcloud.rooster.datapack.DataPackCondition;
+import com.incarcloud.rooster.datapack.LanduConditionVector;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * LANDU 分类工具类
+ * LANDU 分类工具类<br>
+ *     极值数据表和工况描述表从资源文件加载，保存为只读快照，重新加载时在锁外读取和解析，只在替换快照时加锁(写时复制)，
+ *     解析线程读取时不加锁，也不会读到更新了一半的数据表
  *
  * @author Aaric, created on 2017-07-26T09:42.
  * @since 2.0
@@ -12,283 +28,432 @@ import java.util.Map;
 public class LanduDataClassifyUtil {
 
     /**
-     * 极值对象
+     * 极值对象(不可变，所有解析线程共享同一个对象)
      */
-    public static class Peak {
+    public static final class Peak {
 
         /**
          * 极值ID
          */
-        private Integer peakId;
+        private final Integer peakId;
         /**
          * 极值名称
          */
-        private String peakName;
+        private final String peakName;
         /**
          * 极值单位
          */
-        private String peakUnit;
+        private final String peakUnit;
         /**
          * 极值描述
          */
-        private String peakDesc;
+        private final String peakDesc;
+        /**
+         * 极值格式(由极值描述预编译)
+         */
+        private final LanduPeakFormat peakFormat;
 
         public Peak(Integer peakId, String peakUnit, String peakName, String peakDesc) {
             this.peakId = peakId;
             this.peakName = peakName;
             this.peakUnit = peakUnit;
             this.peakDesc = peakDesc;
+            this.peakFormat = LanduPeakFormat.compile(peakDesc);
         }
 
         public Integer getPeakId() {
             return peakId;
         }
 
-        public void setPeakId(Integer peakId) {
-            this.peakId = peakId;
-        }
-
         public String getPeakName() {
             return peakName;
         }
 
-        public void setPeakName(String peakName) {
-            this.peakName = peakName;
-        }
-
         public String getPeakUnit() {
             return peakUnit;
         }
 
-        public void setPeakUnit(String peakUnit) {
-            this.peakUnit = peakUnit;
-        }
-
         public String getPeakDesc() {
             return peakDesc;
         }
 
-        public void setPeakDesc(String peakDesc) {
-            this.peakDesc = peakDesc;
+        public LanduPeakFormat getPeakFormat() {
+            return peakFormat;
+        }
+    }
+
+    /**
+     * 极值数据表资源文件(与本类同一个包)
+     */
+    public static final String PEAK_RESOURCE = "landu-peak.txt";
+
+    /**
+     * 工况描述表资源文件(与本类同一个包)
+     */
+    public static final String CONDITION_RESOURCE = "landu-condition.txt";
+
+    /**
+     * 版本注释
+     */
+    private static final String VERSION_PREFIX = "# version:";
+
+    /**
+     * 极值数据表快照
+     */
+    private static final class PeakSnapshot {
+
+        /**
+         * 版本
+         */
+        private final String version;
+
+        /**
+         * 极值数据表(只读)
+         */
+        private final Map<Integer, Peak> peakMap;
+
+        /**
+         * 极值数据表，按极值ID(无符号16位)直接索引
+         */
+        private final Peak[] peakTable;
+
+        private PeakSnapshot(String version, Map<Integer, Peak> peakMap) {
+            this.version = version;
+            this.peakMap = Collections.unmodifiableMap(peakMap);
+            int maxPeakId = -1;
+            for (Integer peakId : peakMap.keySet()) {
+                maxPeakId = Math.max(maxPeakId, peakId);
+            }
+            this.peakTable = new Peak[maxPeakId + 1];
+            for (Map.Entry<Integer, Peak> entry : peakMap.entrySet()) {
+                this.peakTable[entry.getKey()] = entry.getValue();
+            }
         }
     }
 
     /**
-     * 极值数据表
+     * 当前极值数据表快照
      */
-    public static Map<Integer, Peak> PEAK_MAP = new LinkedHashMap<>();
+    private static volatile PeakSnapshot peakSnapshot;
+
+    /**
+     * 车况名称，按车身数据项槽位(数据项ID - 0x0400)直接索引
+     */
+    private static final String[] CONDITION_NAMES = new String[LanduConditionVector.SLOT_COUNT];
 
     static {
         /**
-         * 构建极值数据表
+         * 构建车身数据项与车况名称的对应关系
+         */
+        putConditionName(0x0400, DataPackCondition.CONDITIONNAME_FIRESWITCH);
+        putConditionName(0x0401, DataPackCondition.CONDITIONNAME_GEARSTATUS);
+        putConditionName(0x0402, DataPackCondition.CONDITIONNAME_ANTI_THEFT_MONITOR);
+        putConditionName(0x0403, DataPackCondition.CONDITIONNAME_GEARSTATUS_GEELY_JG);
+        putConditionName(0x0410, DataPackCondition.CONDITIONNAME_LOCK);
+        putConditionName(0x0411, DataPackCondition.CONDITIONNAME_DOOR);
+        putConditionName(0x0412, DataPackCondition.CONDITIONNAME_LIGHT);
+        putConditionName(0x0413, DataPackCondition.CONDITIONNAME_TROUBLE_LIGHT);
+        putConditionName(0x0414, DataPackCondition.CONDITIONNAME_WINDOW);
+        putConditionName(0x0415, DataPackCondition.CONDITIONNAME_SAFETY_BELT);
+        putConditionName(0x0416, DataPackCondition.CONDITIONNAME_AIR_CONDITIONER);
+        putConditionName(0x0420, DataPackCondition.CONDITIONNAME_OTHER);
+        putConditionName(0x0440, DataPackCondition.CONDITIONNAME_OIL_REMAIN);
+        putConditionName(0x0441, DataPackCondition.CONDITIONNAME_ODOMETER_NUM);
+        putConditionName(0x0442, DataPackCondition.CONDITIONNAME_VIN);
+        putConditionName(0x0443, DataPackCondition.CONDITIONNAME_ROTATE_SPEED);
+        putConditionName(0x0444, DataPackCondition.CONDITIONNAME_SPEED);
+        putConditionName(0x0445, DataPackCondition.CONDITIONNAME_NEDC);
+        putConditionName(0x0446, DataPackCondition.CONDITIONNAME_AVE_FUEL_CONSUMPTION);
+        putConditionName(0x0447, DataPackCondition.CONDITIONNAME_INSTANT_FUEL_CONSUMPTION);
+        putConditionName(0x0448, DataPackCondition.CONDITIONNAME_RUN_TIME);
+        putConditionName(0x044A, DataPackCondition.CONDITIONNAME_WHEEL_CORNER);
+        putConditionName(0x044B, DataPackCondition.CONDITIONNAME_TYRE_SPEED);
+        putConditionName(0x044D, DataPackCondition.CONDITIONNAME_TYRE_PRESSURE);
+        putConditionName(0x044E, DataPackCondition.CONDITIONNAME_POWER_ELECTRICITY);
+        putConditionName(0x044F, DataPackCondition.CONDITIONNAME_BATTERY_VOLTAGE);
+        putConditionName(0x0470, DataPackCondition.CONDITIONNAME_ELECTRIC_REMIAN);
+        putConditionName(0x0471, DataPackCondition.CONDITIONNAME_GAUN_POSITION);
+        putConditionName(0x0472, DataPackCondition.CONDITIONNAME_TAIL_OPEN);
+        putConditionName(0x0473, DataPackCondition.CONDITIONNAME_BRAKE_FORCE);
+        putConditionName(0x0474, DataPackCondition.CONDITIONNAME_THROTTLE_VALVE);
+        putConditionName(0x0480, DataPackCondition.CONDITIONNAME_BRAKE_STATUS);
+        putConditionName(0x0481, DataPackCondition.CONDITIONNAME_VICE_BRAKE_STATUS);
+        putConditionName(0x0482, DataPackCondition.CONDITIONNAME_ACCELERATOR_STATUS);
+        putConditionName(0x0483, DataPackCondition.CONDITIONNAME_WINDSCREEN_WIPER);
+        putConditionName(0x0484, DataPackCondition.CONDITIONNAME_EV_CHARGER);
+        putConditionName(0x0485, DataPackCondition.CONDITIONNAME_CHARGER_STATUS);
+        putConditionName(0x0486, DataPackCondition.CONDITIONNAME_RUN_STATUS);
+        putConditionName(0x0487, DataPackCondition.CONDITIONNAME_WINDOW_LIFT_LEVEL);
+        putConditionName(0x0488, DataPackCondition.CONDITIONNAME_READY_STATUS);
+        putConditionName(0x0489, DataPackCondition.CONDITIONNAME_UPKEEP_STATUS);
+        putConditionName(0x048D, DataPackCondition.CONDITIONNAME_AIR_CONDITIONER_FAN_LEVEL);
+        putConditionName(0x04A0, DataPackCondition.CONDITIONNAME_COSTOM_DATA);
+    }
+
+    /**
+     * 工况描述表快照
+     */
+    private static final class ConditionSnapshot {
+
+        /**
+         * 工况描述表中定义的描述(只读)
+         */
+        private final Map<String, String> descMap;
+
+        /**
+         * 工况描述，按车身数据项槽位直接索引
          */
-        PEAK_MAP.put(0x0000, new Peak(0x0000, "伏特", "蓄电池电压", "%.1f，（00~18）"));
-        PEAK_MAP.put(0x0001, new Peak(0x0001, "", "存储在电子控制单元中的故障码个数", "%d，（0~127）"));
-        PEAK_MAP.put(0x0002, new Peak(0x0002, "", "故障灯状态", "%s，（关 开）"));
-        PEAK_MAP.put(0x0003, new Peak(0x0003, "", "对应所存储的冻结帧的故障码", "%s%04X，（P C B U）"));
-        PEAK_MAP.put(0x0004, new Peak(0x0004, "", "燃油系统 1 状态", "%s，（OL CL OL-Drive）"));
-        PEAK_MAP.put(0x0005, new Peak(0x0005, "", "燃油系统 2 状态", "%s，（OL CL OL-Drive）"));
-        PEAK_MAP.put(0x0006, new Peak(0x0006, "%", "计算负荷值", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x0007, new Peak(0x0007, "℃", "发动机冷却液温度", "%d，（-40~215）"));
-        PEAK_MAP.put(0x0008, new Peak(0x0008, "%", "第 1 列的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x0009, new Peak(0x0009, "%", "第 3 列的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x000A, new Peak(0x000A, "%", "第 1 列的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x000B, new Peak(0x000B, "%", "第 3 列的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x000C, new Peak(0x000C, "%", "第 2 列的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x000D, new Peak(0x000D, "%", "第 4 列的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x000E, new Peak(0x000E, "%", "第 2 列的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x000F, new Peak(0x000F, "%", "第 4 列的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x0010, new Peak(0x0010, "千帕", "油轨压力", "%d，（0~765）"));
-        PEAK_MAP.put(0x0011, new Peak(0x0011, "千帕", "进气歧管绝对压力", "%d，（0~255）"));
-        PEAK_MAP.put(0x0012, new Peak(0x0012, "转/分", "发动机转速", "%.0f，（0~16383.75）"));
-        PEAK_MAP.put(0x0013, new Peak(0x0013, "km/h", "车速", "%d，（0~255）"));
-        PEAK_MAP.put(0x0014, new Peak(0x0014, "°", "1 号汽缸点火正时提前角", "%.0f，（-64~63.5）"));
-        PEAK_MAP.put(0x0015, new Peak(0x0015, "℃", "进气温度", "%d，（-40~215）"));
-        PEAK_MAP.put(0x0016, new Peak(0x0016, "克/秒", "空气流量传感器的空气流量", "%.2f，（0~655.35）"));
-        PEAK_MAP.put(0x0017, new Peak(0x0017, "%", "绝对节气门位置", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x0018, new Peak(0x0018, "", "二次空气状态指令", "%s，（UPS DNS OFF）"));
-        PEAK_MAP.put(0x0019, new Peak(0x0019, "", "氧传感器的位置", "%s，（O2S11 O2S12 O2S13）"));
-        PEAK_MAP.put(0x001A, new Peak(0x001A, "伏特", "第 1 列氧传感器 1 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x001B, new Peak(0x001B, "%", "第 1 列传感器 1 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x001C, new Peak(0x001C, "伏特", "第 1 列氧传感器 2 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x001D, new Peak(0x001D, "%", "第 1 列传感器 2 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x001E, new Peak(0x001E, "伏特", "第 1 列氧传感器 3 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x001F, new Peak(0x001F, "%", "第 1 列传感器 3 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0020, new Peak(0x0020, "伏特", "第 1 列氧传感器 4 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0021, new Peak(0x0021, "%", "第 1 列传感器 4 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0022, new Peak(0x0022, "伏特", "第 2 列氧传感器 1 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0023, new Peak(0x0023, "%", "第 2 列传感器 1 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0024, new Peak(0x0024, "伏特", "第 2 列传感器 2 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0025, new Peak(0x0025, "%", "第 2 列传感器 2 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0026, new Peak(0x0026, "伏特", "第 2 列传感器 3 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0027, new Peak(0x0027, "%", "第 2 列传感器 3 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0028, new Peak(0x0028, "伏特", "第 2 列传感器 4 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0029, new Peak(0x0029, "%", "第 2 列传感器 4 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x002A, new Peak(0x002A, "", "第 1 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x002B, new Peak(0x002B, "伏特", "第 1 列氧传感器 1 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x002C, new Peak(0x002C, "", "第 1 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x002D, new Peak(0x002D, "伏特", "第 1 列氧传感器 2 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x002E, new Peak(0x002E, "", "第 1 列氧传感器 3 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x002F, new Peak(0x002F, "伏特", "第 1 列氧传感器 3 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0030, new Peak(0x0030, "", "第 1 列氧传感器 4 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0031, new Peak(0x0031, "伏特", "第 1 列氧传感器 4 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0032, new Peak(0x0032, "", "第 2 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0033, new Peak(0x0033, "伏特", "第 2 列氧传感器 1 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0034, new Peak(0x0034, "", "第 2 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0035, new Peak(0x0035, "伏特", "第 2 列氧传感器 2 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0036, new Peak(0x0036, "", "第 2 列氧传感器 3 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0037, new Peak(0x0037, "伏特", "第 2 列氧传感器 3 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0038, new Peak(0x0038, "", "第 2 列氧传感器 4 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0039, new Peak(0x0039, "伏特", "第 2 列氧传感器 4 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x003A, new Peak(0x003A, "", "第 1 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x003B, new Peak(0x003B, "毫安", "第 1 列氧传感器 1 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x003C, new Peak(0x003C, "", "第 1 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x003D, new Peak(0x003D, "毫安", "第 1 列氧传感器 2 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x003E, new Peak(0x003E, "", "第 1 列氧传感器 3 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x003F, new Peak(0x003F, "毫安", "第 1 列氧传感器 3 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0040, new Peak(0x0040, "", "第 1 列氧传感器 4 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0041, new Peak(0x0041, "毫安", "第 1 列氧传感器 4 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0042, new Peak(0x0042, "", "第 2 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0043, new Peak(0x0043, "毫安", "第 2 列氧传感器 1 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0044, new Peak(0x0044, "", "第 2 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0045, new Peak(0x0045, "毫安", "第 2 列氧传感器 2 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0046, new Peak(0x0046, "", "第 2 列氧传感器 3 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0047, new Peak(0x0047, "毫安", "第 2 列氧传感器 3 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0048, new Peak(0x0048, "", "第 2 列氧传感器 4 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0049, new Peak(0x0049, "毫安", "第 2 列氧传感器 4 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x004A, new Peak(0x004A, "OBD", "系统的车辆设计要求", "%s，（[OBD II] [EOBD]…）"));
-        PEAK_MAP.put(0x004B, new Peak(0x004B, "", "氧传感器的位置", "%s，（O2S11 O2S12）"));
-        PEAK_MAP.put(0x004C, new Peak(0x004C, "伏特", "第 1 列传感器 1 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x004D, new Peak(0x004D, "%", "第 1 列传感器 1 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x004E, new Peak(0x004E, "伏特", "第 1 列传感器 2 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x004F, new Peak(0x004F, "%", "第 1 列传感器 2 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0050, new Peak(0x0050, "伏特", "第 2 列传感器 1 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0051, new Peak(0x0051, "%", "第 2 列传感器 1 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0052, new Peak(0x0052, "伏特", "第 2 列传感器 2 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0053, new Peak(0x0053, "%", "第 2 列传感器 2 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0054, new Peak(0x0054, "伏特", "第 3 列传感器 1 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0055, new Peak(0x0055, "%", "第 3 列传感器 1 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0056, new Peak(0x0056, "伏特", "第 3 列传感器 2 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0057, new Peak(0x0057, "%", "第 3 列传感器 2 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x0058, new Peak(0x0058, "伏特", "第 4 列传感器 1 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x0059, new Peak(0x0059, "%", "第 4 列传感器 1 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x005A, new Peak(0x005A, "伏特", "第 4 列传感器 2 的输出电压", "%.3f，（0~1.275）"));
-        PEAK_MAP.put(0x005B, new Peak(0x005B, "%", "第 4 列传感器 2 的短期燃油修正", "%.1f，（-100.00~99.22）"));
-        PEAK_MAP.put(0x005C, new Peak(0x005C, "", "第 1 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x005D, new Peak(0x005D, "伏特", "第 1 列氧传感器 1 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x005E, new Peak(0x005E, "", "第 1 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x005F, new Peak(0x005F, "伏特", "第 1 列氧传感器 2 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0060, new Peak(0x0060, "", "第 2 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0061, new Peak(0x0061, "伏特", "第 2 列氧传感器 1 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0062, new Peak(0x0062, "", "第 2 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0063, new Peak(0x0063, "伏特", "第 2 列氧传感器 2 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0064, new Peak(0x0064, "", "第 3 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0065, new Peak(0x0065, "伏特", "第 3 列氧传感器 1 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0066, new Peak(0x0066, "", "第 3 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0067, new Peak(0x0067, "伏特", "第 3 列氧传感器 2 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x0068, new Peak(0x0068, "", "第 4 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0069, new Peak(0x0069, "伏特", "第 4 列氧传感器 1 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x006A, new Peak(0x006A, "", "第 4 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x006B, new Peak(0x006B, "伏特", "第 4 列氧传感器 2 的电压", "%.3f，（0~7.999）"));
-        PEAK_MAP.put(0x006C, new Peak(0x006C, "", "第 1 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x006D, new Peak(0x006D, "毫安", "第 1 列氧传感器 1 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x006E, new Peak(0x006E, "", "第 1 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x006F, new Peak(0x006F, "毫安", "第 1 列氧传感器 2 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0070, new Peak(0x0070, "", "第 2 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0071, new Peak(0x0071, "毫安", "第 2 列氧传感器 1 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0072, new Peak(0x0072, "", "第 2 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0073, new Peak(0x0073, "毫安", "第 2 列氧传感器 2 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0074, new Peak(0x0074, "", "第 3 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0075, new Peak(0x0075, "毫安", "第 3 列氧传感器 1 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0076, new Peak(0x0076, "", "第 3 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0077, new Peak(0x0077, "毫安", "第 3 列氧传感器 2 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x0078, new Peak(0x0078, "", "第 4 列氧传感器 1 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x0079, new Peak(0x0079, "毫安", "第 4 列氧传感器 1 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x007A, new Peak(0x007A, "", "第 4 列氧传感器 2 的等效比", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x007B, new Peak(0x007B, "毫安", "第 4 列氧传感器 2 的电流", "%.3f，（-128~127.996）"));
-        PEAK_MAP.put(0x007C, new Peak(0x007C, "", "辅助输入状态", "%s，（关 开）"));
-        PEAK_MAP.put(0x007D, new Peak(0x007D, "秒", "自发动机起动的时间", "%d，（0~65535）"));
-        PEAK_MAP.put(0x007E, new Peak(0x007E, "千米", "在故障指示灯激活状态下行驶的里程", "%d，（0~65535）"));
-        PEAK_MAP.put(0x007F, new Peak(0x007F, "千帕", "相对于歧管真空度的油轨压力", "%.3f，（0~5177.27）"));
-        PEAK_MAP.put(0x0080, new Peak(0x0080, "千帕", "相对于大气压力的油轨压力", "%d，（0~655350）"));
-        PEAK_MAP.put(0x0081, new Peak(0x0081, "%", "废气再循环系统指令开度", "%.1f，（0~100）"));
-        PEAK_MAP.put(0x0082, new Peak(0x0082, "%", "EGR 开度误差", "(实际开度 — 指令开度)/指令开度*100%，%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x0083, new Peak(0x0083, "%", "蒸发冲洗控制指令", "%.1f，（0~100）"));
-        PEAK_MAP.put(0x0084, new Peak(0x0084, "%", "燃油液位输入", "%.1f，（0~100）"));
-        PEAK_MAP.put(0x0085, new Peak(0x0085, "", "故障码清除后的暖机次数", "%d，（0~255）"));
-        PEAK_MAP.put(0x0086, new Peak(0x0086, "千米", "故障码清除后的行驶里程", "%d，（0~65535）"));
-        PEAK_MAP.put(0x0087, new Peak(0x0087, "Pa", "蒸发系统的蒸气压力", "%.2f，（-8192.0~0.0）"));
-        PEAK_MAP.put(0x0088, new Peak(0x0088, "千帕", "大气压", "%d，（0~255）"));
-        PEAK_MAP.put(0x0089, new Peak(0x0089, "℃", "第 1 列传感器 1 的催化剂温度", "%.1f，（-40~6513.5）"));
-        PEAK_MAP.put(0x008A, new Peak(0x008A, "℃", "第 2 列传感器 1 的催化剂温度", "%.1f，（-40~6513.5）"));
-        PEAK_MAP.put(0x008B, new Peak(0x008B, "℃", "第 1 列传感器 2 的催化剂温度", "%.1f，（-40~6513.5）"));
-        PEAK_MAP.put(0x008C, new Peak(0x008C, "℃", "第 2 列传感器 2 的催化剂温度", "%.1f，（-40~6513.5）"));
-        PEAK_MAP.put(0x008D, new Peak(0x008D, "", "失火监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x008E, new Peak(0x008E, "", "燃油系统监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x008F, new Peak(0x008F, "", "综合元件监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0090, new Peak(0x0090, "", "失火监控", "%s，（完成 没完成）"));
-        PEAK_MAP.put(0x0091, new Peak(0x0091, "", "燃油系统监控", "%s，（完成 没完成）"));
-        PEAK_MAP.put(0x0092, new Peak(0x0092, "", "综合元件监控", "%s，（完成 没完成）"));
-        PEAK_MAP.put(0x0093, new Peak(0x0093, "", "催化剂监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0094, new Peak(0x0094, "", "加热型催化剂监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0095, new Peak(0x0095, "", "燃油蒸发系统监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0096, new Peak(0x0096, "", "二次空气系统监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0097, new Peak(0x0097, "", "空调系统制冷剂监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0098, new Peak(0x0098, "", "氧传感器监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x0099, new Peak(0x0099, "", "氧传感器加热器监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x009A, new Peak(0x009A, "", "废气再循环系统监控", "%s，（无效 有效）"));
-        PEAK_MAP.put(0x009B, new Peak(0x009B, "", "催化剂监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x009C, new Peak(0x009C, "", "加热型催化剂监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x009D, new Peak(0x009D, "", "燃油蒸发系统监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x009E, new Peak(0x009E, "", "二次空气系统监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x009F, new Peak(0x009F, "", "空调系统制冷剂监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x00A0, new Peak(0x00A0, "", "氧传感器监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x00A1, new Peak(0x00A1, "", "氧传感器加热器监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x00A2, new Peak(0x00A2, "", "废气再循环系统监控", "%s，（未完成 完成）"));
-        PEAK_MAP.put(0x00A3, new Peak(0x00A3, "伏特", "控制单元电压", "%.3f，（0~65.535）"));
-        PEAK_MAP.put(0x00A4, new Peak(0x00A4, "%", "绝对负载值", "%.1f，（0~25700.0）"));
-        PEAK_MAP.put(0x00A5, new Peak(0x00A5, "", "等效比指令", "%.3f，（0~1.999）"));
-        PEAK_MAP.put(0x00A6, new Peak(0x00A6, "%", "相对节气门位置", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00A7, new Peak(0x00A7, "℃", "环境空气温度", "%d，（-40~215）"));
-        PEAK_MAP.put(0x00A8, new Peak(0x00A8, "%", "绝对节气门位置 B", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00A9, new Peak(0x00A9, "%", "绝对节气门位置 C", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00AA, new Peak(0x00AA, "%", "加速踏板位置 D", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00AB, new Peak(0x00AB, "%", "加速踏板位置 E", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00AC, new Peak(0x00AC, "%", "加速踏板位置 F", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00AD, new Peak(0x00AD, "%", "节气门执行器控制指令", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00AE, new Peak(0x00AE, "分钟", "故障指示灯处于激活状态下的发动机运转时间", "%d，（0~65535）"));
-        PEAK_MAP.put(0x00AF, new Peak(0x00AF, "分钟", "自故障码清除之后的时间", "%d，（0~65535）"));
-        PEAK_MAP.put(0x00B0, new Peak(0x00B0, "", "最大等效比", "%d，（0~255）"));
-        PEAK_MAP.put(0x00B1, new Peak(0x00B1, "伏特", "氧传感器最高电压", "%d，（0~255）"));
-        PEAK_MAP.put(0x00B2, new Peak(0x00B2, "毫安", "氧传感器最大电流", "%d，（0~255）"));
-        PEAK_MAP.put(0x00B3, new Peak(0x00B3, "千帕", "进气歧管最大绝对压力", "%d，（0~2550）"));
-        PEAK_MAP.put(0x00B4, new Peak(0x00B4, "加仑/秒", "空气流量传感器的最大流量", "%d，（0~2550）"));
-        PEAK_MAP.put(0x00B5, new Peak(0x00B5, "", "车辆当前使用的燃油类型", "%s，（Protocol GAS）"));
-        PEAK_MAP.put(0x00B6, new Peak(0x00B6, "%", "酒精燃料百分比", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00B7, new Peak(0x00B7, "千帕", "蒸发系统蒸气绝对压力", "%.3f，（0~327.675）"));
-        PEAK_MAP.put(0x00B8, new Peak(0x00B8, "帕", "蒸发系统蒸气压力", "%d，（-32767~32768）"));
-        PEAK_MAP.put(0x00B9, new Peak(0x00B9, "%", "第 1 列氧传感器 2 的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00BA, new Peak(0x00BA, "%", "第 3 列氧传感器 2 的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00BB, new Peak(0x00BB, "%", "第 1 列氧传感器 2 的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00BC, new Peak(0x00BC, "%", "第 3 列氧传感器 2 的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00BD, new Peak(0x00BD, "%", "第 2 列氧传感器 2 的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00BE, new Peak(0x00BE, "%", "第 4 列氧传感器 2 的短期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00BF, new Peak(0x00BF, "%", "第 2 列氧传感器 2 的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00C0, new Peak(0x00C0, "%", "第 4 列氧传感器 2 的长期燃油修正", "%.1f，（-100~99.22）"));
-        PEAK_MAP.put(0x00C1, new Peak(0x00C1, "千帕", "油轨绝对压力", "%d,，（0~2550）"));
-        PEAK_MAP.put(0x00C2, new Peak(0x00C2, "%", "加速踏板相对位置", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00C3, new Peak(0x00C3, "%", "混合电池组剩余寿命", "%.1f，（0~100.0）"));
-        PEAK_MAP.put(0x00C4, new Peak(0x00C4, "摄氏度", "发动机机油温度", "%d，（-40~215）"));
-        PEAK_MAP.put(0x00C5, new Peak(0x00C5, "度", "喷油正时角", "%.2f，（-210.0~301.992）"));
-        PEAK_MAP.put(0x00C6, new Peak(0x00C6, "升/小时", "发动机耗油率", "%.2f，（0~3276.75）"));
-        PEAK_MAP.put(0x00C7, new Peak(0x00C7, "", "车辆设计的排放物要求", "%s，（[---] [EURO C]）"));
-        PEAK_MAP.put(0x00C8, new Peak(0x00C8, "%", "驾驶员要求的发动机转矩百分比", "%d，（-125~130）"));
-        PEAK_MAP.put(0x00C9, new Peak(0x00C9, "", "发动机实际转矩百分比", "%d，（-125~130）"));
-        PEAK_MAP.put(0x00CA, new Peak(0x00CA, "", "发动机基准转矩", "%d，（0~65535）"));
-        PEAK_MAP.put(0x00CB, new Peak(0x00CB, "%", "发动机在怠速点 1 的转矩百分比", "%d，（-125~130）"));
-        PEAK_MAP.put(0x00CC, new Peak(0x00CC, "%", "发动机在怠速点 2 的转矩百分比", "%d，（-125~130）"));
-        PEAK_MAP.put(0x00CD, new Peak(0x00CD, "%", "发动机在怠速点 3 的转矩百分比", "%d，（-125~130）"));
-        PEAK_MAP.put(0x00CE, new Peak(0x00CE, "%", "发动机在怠速点 4 的转矩百分比", "%d，（-125~130）"));
+        private final String[] descTable;
+
+        private ConditionSnapshot(Map<String, String> descMap) {
+            this.descMap = Collections.unmodifiableMap(descMap);
+            this.descTable = new String[CONDITION_NAMES.length];
+            for (int slot = 0; slot < CONDITION_NAMES.length; slot++) {
+                if(null != CONDITION_NAMES[slot]) {
+                    this.descTable[slot] = describe(descMap, CONDITION_NAMES[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 当前工况描述表快照
+     */
+    private static volatile ConditionSnapshot conditionSnapshot;
+
+    /**
+     * 更新快照的锁，只有加载数据表时使用
+     */
+    private static final Object LOAD_LOCK = new Object();
+
+    /**
+     * 极值数据表(只读，始终反映当前快照)
+     */
+    public static final Map<Integer, Peak> PEAK_MAP = new AbstractMap<Integer, Peak>() {
+
+        @Override
+        public Peak get(Object key) {
+            return peakSnapshot.peakMap.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return peakSnapshot.peakMap.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return peakSnapshot.peakMap.size();
+        }
+
+        @Override
+        public Set<Entry<Integer, Peak>> entrySet() {
+            return peakSnapshot.peakMap.entrySet();
+        }
+    };
+
+    static {
+        /**
+         * 加载内置的极值数据表和工况描述表
+         */
+        Map<Integer, Peak> peakMap = new LinkedHashMap<>();
+        Map<String, String> descMap = new HashMap<>();
+        try (InputStream peakIn = getResource(PEAK_RESOURCE);
+             InputStream conditionIn = getResource(CONDITION_RESOURCE)) {
+            peakSnapshot = new PeakSnapshot(readPeaks(peakIn, peakMap), peakMap);
+            readConditions(conditionIn, descMap);
+            conditionSnapshot = new ConditionSnapshot(descMap);
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 获取极值对象
+     *
+     * @param peakId 极值ID
+     * @return 未定义的极值ID返回null
+     */
+    public static Peak getPeak(int peakId) {
+        Peak[] peakTable = peakSnapshot.peakTable;
+        if(0 <= peakId && peakTable.length > peakId) {
+            return peakTable[peakId];
+        }
+        return null;
+    }
+
+    /**
+     * 当前极值数据表版本
+     *
+     * @return 数据表中没有版本注释返回null
+     */
+    public static String getPeakVersion() {
+        return peakSnapshot.version;
+    }
+
+    /**
+     * 加载极值数据表并替换当前快照<br>
+     *     新数据表中的极值覆盖或添加到当前数据表，格式错误时保持当前快照不变
+     *
+     * @param in 极值数据表(UTF-8)，由调用者关闭
+     * @throws IOException 读取失败
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static void loadPeaks(InputStream in) throws IOException {
+        // 在锁外读取和解析，加锁只用于合并和替换快照
+        Map<Integer, Peak> loadedMap = new LinkedHashMap<>();
+        String version = readPeaks(in, loadedMap);
+        synchronized (LOAD_LOCK) {
+            Map<Integer, Peak> peakMap = new LinkedHashMap<>(peakSnapshot.peakMap);
+            peakMap.putAll(loadedMap);
+            peakSnapshot = new PeakSnapshot(null != version ? version : peakSnapshot.version, peakMap);
+        }
+    }
+
+    /**
+     * 加载极值数据表文件并替换当前快照
+     *
+     * @param file 极值数据表文件(UTF-8)
+     * @throws IOException 读取失败
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static void loadPeaks(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            loadPeaks(in);
+        }
+    }
+
+    /**
+     * 获取车身数据项对应的车况名称
+     *
+     * @param itemId 车身数据项ID(0x0400~0x04FF)
+     * @return 未定义的数据项返回null
+     */
+    public static String getConditionName(int itemId) {
+        int slot = itemId - LanduConditionVector.FIRST_ITEM_ID;
+        if(0 <= slot && CONDITION_NAMES.length > slot) {
+            return CONDITION_NAMES[slot];
+        }
+        return null;
+    }
+
+    /**
+     * 获取车身数据项对应的工况描述(按槽位直接读取当前快照)
+     *
+     * @param itemId 车身数据项ID(0x0400~0x04FF)
+     * @return 未定义的数据项返回null
+     */
+    public static String getConditionDesc(int itemId) {
+        int slot = itemId - LanduConditionVector.FIRST_ITEM_ID;
+        if(0 <= slot && CONDITION_NAMES.length > slot) {
+            return conditionSnapshot.descTable[slot];
+        }
+        return null;
+    }
+
+    /**
+     * 获取工况描述<br>
+     *     工况描述表中没有定义时使用DataPackCondition.getConditionDesc，不修改快照
+     *
+     * @param conditionName 工况名称
+     * @return 工况描述
+     */
+    public static String getConditionDesc(String conditionName) {
+        if(null == conditionName) {
+            return null;
+        }
+        return describe(conditionSnapshot.descMap, conditionName);
+    }
+
+    /**
+     * 加载工况描述表并替换当前快照<br>
+     *     新描述覆盖或添加到当前描述表，格式错误时保持当前快照不变
+     *
+     * @param in 工况描述表(UTF-8)，由调用者关闭
+     * @throws IOException 读取失败
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static void loadConditions(InputStream in) throws IOException {
+        // 在锁外读取和解析，加锁只用于合并和替换快照
+        Map<String, String> loadedMap = new HashMap<>();
+        readConditions(in, loadedMap);
+        synchronized (LOAD_LOCK) {
+            Map<String, String> descMap = new HashMap<>(conditionSnapshot.descMap);
+            descMap.putAll(loadedMap);
+            conditionSnapshot = new ConditionSnapshot(descMap);
+        }
+    }
+
+    private static void putConditionName(int itemId, String conditionName) {
+        CONDITION_NAMES[itemId - LanduConditionVector.FIRST_ITEM_ID] = conditionName;
+    }
+
+    private static String describe(Map<String, String> descMap, String conditionName) {
+        String conditionDesc = descMap.get(conditionName);
+        return null != conditionDesc ? conditionDesc : DataPackCondition.getConditionDesc(conditionName);
+    }
+
+    private static InputStream getResource(String name) throws IOException {
+        InputStream in = LanduDataClassifyUtil.class.getResourceAsStream(name);
+        if(null == in) {
+            throw new IOException("resource not found: " + name);
+        }
+        return in;
+    }
+
+    /**
+     * 读取极值数据表，每行为：极值ID<TAB>极值单位<TAB>极值名称<TAB>极值描述
+     *
+     * @return 版本
+     */
+    private static String readPeaks(InputStream in, Map<Integer, Peak> peakMap) throws IOException {
+        String version = null;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        String[] fields;
+        int peakId;
+        for (int lineNumber = 1; null != (line = reader.readLine()); lineNumber++) {
+            if(line.startsWith(VERSION_PREFIX)) {
+                version = line.substring(VERSION_PREFIX.length()).trim();
+                continue;
+            }
+            if(line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            fields = line.split("\t", -1);
+            if(4 != fields.length) {
+                throw new IllegalArgumentException("line " + lineNumber + ": 4 fields required");
+            }
+            try {
+                peakId = Integer.decode(fields[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("line " + lineNumber + ": illegal peak id " + fields[0]);
+            }
+            if(0 > peakId || 0xFFFF < peakId) {
+                throw new IllegalArgumentException("line " + lineNumber + ": illegal peak id " + fields[0]);
+            }
+            peakMap.put(peakId, new Peak(peakId, fields[1], fields[2], fields[3]));
+        }
+        return version;
+    }
+
+    /**
+     * 读取工况描述表，每行为：工况名称<TAB>工况描述
+     */
+    private static void readConditions(InputStream in, Map<String, String> descMap) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        String[] fields;
+        for (int lineNumber = 1; null != (line = reader.readLine()); lineNumber++) {
+            if(line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            fields = line.split("\t", -1);
+            if(2 != fields.length) {
+                throw new IllegalArgumentException("line " + lineNumber + ": 2 fields required");
+            }
+            descMap.put(fields[0], fields[1]);
+        }
     }
 
     protected LanduDataClassifyUtil(){}
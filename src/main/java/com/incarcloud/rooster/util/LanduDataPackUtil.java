@@ -2,9 +2,15 @@ package com.incarcloud.rooster.util;
 
 import com.incarcloud.rooster.datapack.DataPackObject;
 import com.incarcloud.rooster.datapack.DataPackPosition;
+import com.incarcloud.rooster.datapack.LanduPeakBatch;
 import io.netty.buffer.ByteBuf;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -19,6 +25,53 @@ import java.util.Locale;
  */
 public class LanduDataPackUtil extends DataPackUtil {
 
+    /**
+     * 字符串编码
+     */
+    private static final Charset GBK = Charset.forName("GBK");
+
+    /**
+     * 10的n次方(double精确表示范围内)
+     */
+    private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    /**
+     * 10的n次方(float精确表示范围内)
+     */
+    private static final float[] POW10F = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    /**
+     * 当前线程的GBK解码器
+     */
+    private static final ThreadLocal<CharsetDecoder> GBK_DECODER = ThreadLocal.withInitial(() -> GBK.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+    /**
+     * 当前线程的解码字符缓冲区
+     */
+    private static final ThreadLocal<CharBuffer> GBK_CHARS = ThreadLocal.withInitial(() -> CharBuffer.allocate(64));
+
+    /**
+     * 当前线程的字节缓冲区(非堆内存ByteBuf)
+     */
+    private static final ThreadLocal<byte[]> STRING_BYTES = ThreadLocal.withInitial(() -> new byte[64]);
+
+    /**
+     * 故障码等重复字符串的缓存
+     */
+    private static final LanduStringCache STRING_CACHE = new LanduStringCache(4096, 256);
+
+    /**
+     * 设备身份缓存
+     */
+    private static final LanduIdentityCache IDENTITY_CACHE = new LanduIdentityCache(4096);
+
+    /**
+     * VIN长度
+     */
+    private static final int VIN_LENGTH = 17;
+
     /**
      * 读取一个WORD类型数据<br>
      *     2 个字节，高位字节在前，低位字节在后
@@ -74,11 +127,300 @@ public class LanduDataPackUtil extends DataPackUtil {
         return readUInt4(buffer);
     }
 
+    /**
+     * 读取一个STRING类型数据<br>
+     *     GBK编码，0x00结束，没有结束符时读取到writerIndex，结果与DataPackUtil.readString一致
+     *
+     * @param buffer ByteBuf
+     * @return string
+     * @throws UnsupportedEncodingException 兼容DataPackUtil.readString，实际不会抛出
+     */
+    public static String readString(ByteBuf buffer) throws UnsupportedEncodingException {
+        int index = buffer.readerIndex();
+        int end = stringEnd(buffer, index);
+        String string = decodeString(buffer, index, end - index);
+        skipString(buffer, end);
+        return string;
+    }
+
+    /**
+     * 读取一个STRING类型数据，使用共享的字符串缓存<br>
+     *     适用于大量重复的字段，例如故障码、故障码属性和故障码描述
+     *
+     * @param buffer ByteBuf
+     * @return string
+     */
+    public static String readCachedString(ByteBuf buffer) {
+        int index = buffer.readerIndex();
+        int end = stringEnd(buffer, index);
+        String string = STRING_CACHE.get(buffer, index, end - index);
+        skipString(buffer, end);
+        return string;
+    }
+
+    /**
+     * 读取设备身份(设备号 + TripID + VID + VIN)，使用共享的设备身份缓存<br>
+     *     同一设备的重复数据包直接返回缓存的字符串和VIN校验结果
+     *
+     * @param buffer ByteBuf
+     * @param dataPackObject 设置设备号、TripID、VID和VIN，为null时只读取
+     * @return 设备身份
+     */
+    public static LanduIdentityCache.Identity readIdentity(ByteBuf buffer, DataPackObject dataPackObject) {
+        return readIdentity(buffer, dataPackObject, false);
+    }
+
+    /**
+     * 读取设备身份(设备号 + TripID + VID + VIN)，使用共享的设备身份缓存<br>
+     *     同一设备的重复数据包直接返回缓存的字符串和VIN校验结果
+     *
+     * @param buffer ByteBuf
+     * @param dataPackObject 设置设备号、TripID、VID和VIN，为null时只读取
+     * @param validVinOnly true-只设置校验通过的VIN
+     * @return 设备身份
+     */
+    public static LanduIdentityCache.Identity readIdentity(ByteBuf buffer, DataPackObject dataPackObject, boolean validVinOnly) {
+        // 1.设备号
+        int deviceIdIndex = buffer.readerIndex();
+        int deviceIdEnd = stringEnd(buffer, deviceIdIndex);
+        skipString(buffer, deviceIdEnd);
+        // 2.TripID
+        long tripId = readDWord(buffer);
+        // 3.VID
+        int vidIndex = buffer.readerIndex();
+        int vidEnd = stringEnd(buffer, vidIndex);
+        skipString(buffer, vidEnd);
+        // 4.VIN
+        int vinIndex = buffer.readerIndex();
+        int vinEnd = stringEnd(buffer, vinIndex);
+        skipString(buffer, vinEnd);
+
+        LanduIdentityCache.Identity identity = IDENTITY_CACHE.get(buffer, deviceIdIndex, deviceIdEnd - deviceIdIndex,
+                vidIndex, vidEnd - vidIndex, vinIndex, vinEnd - vinIndex);
+        if(null != dataPackObject) {
+            dataPackObject.setDeviceId(identity.getDeviceId());
+            dataPackObject.setTripId(tripId);
+            dataPackObject.setVid(identity.getVid());
+            if(!validVinOnly || identity.isVinValid()) {
+                dataPackObject.setVin(identity.getVin());
+            }
+        }
+        return identity;
+    }
+
+    /**
+     * 校验VIN：17位数字或大写字母，与正则表达式^[0-9A-Z]{17}$结果一致
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param length 字节数
+     * @return
+     */
+    public static boolean isVin(ByteBuf buffer, int index, int length) {
+        if(VIN_LENGTH != length) {
+            return false;
+        }
+        for (int i = index, end = index + length; i < end; i++) {
+            if(!isVinChar(buffer.getByte(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 校验VIN：17位数字或大写字母，与正则表达式^[0-9A-Z]{17}$结果一致
+     *
+     * @param vin VIN
+     * @return
+     */
+    public static boolean isVin(CharSequence vin) {
+        if(null == vin || VIN_LENGTH != vin.length()) {
+            return false;
+        }
+        for (int i = 0; i < VIN_LENGTH; i++) {
+            if(!isVinChar(vin.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVinChar(int c) {
+        return ('0' <= c && '9' >= c) || ('A' <= c && 'Z' >= c);
+    }
+
+    /**
+     * 解码GBK字符串，不改变readerIndex<br>
+     *     全部是ASCII字符时逐字节转换为字符，否则使用当前线程的GBK解码器
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param length 字节数
+     * @return string
+     */
+    public static String decodeString(ByteBuf buffer, int index, int length) {
+        if(0 == length) {
+            return "";
+        }
+        if(buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset() + index;
+            if(isAscii(array, offset, length)) {
+                return asciiString(array, offset, length);
+            }
+            return decodeGbk(ByteBuffer.wrap(array, offset, length), length);
+        }
+
+        byte[] bytes = STRING_BYTES.get();
+        if(bytes.length < length) {
+            bytes = new byte[Math.max(bytes.length << 1, length)];
+            STRING_BYTES.set(bytes);
+        }
+        buffer.getBytes(index, bytes, 0, length);
+        if(isAscii(bytes, 0, length)) {
+            return asciiString(bytes, 0, length);
+        }
+        return decodeGbk(ByteBuffer.wrap(bytes, 0, length), length);
+    }
+
+    private static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if(0 > bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ASCII字节直接作为字符(高8位为0)，只复制一次
+     */
+    @SuppressWarnings("deprecation")
+    private static String asciiString(byte[] bytes, int offset, int length) {
+        return new String(bytes, 0, offset, length);
+    }
+
+    private static String decodeGbk(ByteBuffer in, int length) {
+        CharBuffer out = GBK_CHARS.get();
+        // GBK每个字符至少一个字节
+        if(out.capacity() < length) {
+            out = CharBuffer.allocate(Math.max(out.capacity() << 1, length));
+            GBK_CHARS.set(out);
+        }
+        out.clear();
+        CharsetDecoder decoder = GBK_DECODER.get().reset();
+        decoder.decode(in, out, true);
+        decoder.flush(out);
+        return new String(out.array(), 0, out.position());
+    }
+
     /**
      * 格式化时间
+     *
+     * @deprecated SimpleDateFormat不是线程安全的，请使用{@link LanduDateUtil}
      */
+    @Deprecated
     public final static DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.CHINA);
 
+    /**
+     * 无数值(ASCII整数)
+     */
+    public static final int ASCII_NULL_INT = Integer.MIN_VALUE;
+
+    /**
+     * 无数值(ASCII定点数)
+     */
+    public static final long ASCII_NULL_FIXED_POINT = Long.MIN_VALUE;
+
+    /**
+     * 读取一个ASCII字符串表示的小数<br>
+     *     直接解析ByteBuf中的字节，结果与Float.parseFloat一致，空字符串或“---”表示无数值
+     *
+     * @param buffer ByteBuf
+     * @return float，无数值返回Float.NaN
+     * @throws NumberFormatException 不是数值
+     */
+    public static float readAsciiFloat(ByteBuf buffer) {
+        int index = buffer.readerIndex();
+        int end = stringEnd(buffer, index);
+        skipString(buffer, end);
+        if(isAsciiNull(buffer, index, end)) {
+            return Float.NaN;
+        }
+        return parseFloat(buffer, index, end);
+    }
+
+    /**
+     * 读取一个ASCII字符串表示的整数<br>
+     *     直接解析ByteBuf中的字节，结果与Integer.parseInt一致，空字符串或“---”表示无数值
+     *
+     * @param buffer ByteBuf
+     * @return integer，无数值返回ASCII_NULL_INT
+     * @throws NumberFormatException 不是数值
+     */
+    public static int readAsciiInt(ByteBuf buffer) {
+        int index = buffer.readerIndex();
+        int end = stringEnd(buffer, index);
+        skipString(buffer, end);
+        if(isAsciiNull(buffer, index, end)) {
+            return ASCII_NULL_INT;
+        }
+        return parseInt(buffer, index, end);
+    }
+
+    /**
+     * 读取一个ASCII字符串表示的小数，转换为定点数<br>
+     *     例如：scale为2时，12.345->1235，-0.5->-50，超出精度的部分四舍五入
+     *
+     * @param buffer ByteBuf
+     * @param scale 小数位数(0-9)
+     * @return 数值 * 10^scale，无数值返回ASCII_NULL_FIXED_POINT
+     * @throws NumberFormatException 不是数值
+     */
+    public static long readAsciiFixedPoint(ByteBuf buffer, int scale) {
+        if(0 > scale || 9 < scale) {
+            throw new IllegalArgumentException("scale: " + scale);
+        }
+        int index = buffer.readerIndex();
+        int end = stringEnd(buffer, index);
+        skipString(buffer, end);
+        if(isAsciiNull(buffer, index, end)) {
+            return ASCII_NULL_FIXED_POINT;
+        }
+        long decimal = parseDecimal(buffer, index, end, 18 - scale);
+        if(0 > decimal) {
+            // 其它格式(科学计数法等)
+            return Math.round(Double.parseDouble(buffer.toString(index, end - index, GBK)) * POW10[scale]);
+        }
+        long mantissa = decimal >>> 8;
+        int digits = (int) decimal & 0x3F;
+        for (; digits < scale; digits++) {
+            mantissa *= 10;
+        }
+        if(digits > scale) {
+            // 四舍五入
+            long divisor = 1;
+            for (; digits > scale; digits--) {
+                divisor *= 10;
+            }
+            mantissa = (mantissa + divisor / 2) / divisor;
+        }
+        return 0 == (decimal & 0x80) ? mantissa : -mantissa;
+    }
+
+    /**
+     * 判断ASCII字符串是否表示无数值(空字符串或全部为“-”，如“---”)
+     */
+    private static boolean isAsciiNull(ByteBuf buffer, int index, int end) {
+        for (int i = index; i < end; i++) {
+            if('-' != buffer.getByte(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 读取一个时间类型数据<br>
      *     时间字符串格式必须是yyyy-MM-dd HH:mm:ss
@@ -87,7 +429,29 @@ public class LanduDataPackUtil extends DataPackUtil {
      * @return Date
      */
     public static Date readDate(ByteBuf buffer) throws UnsupportedEncodingException, ParseException {
-        return  formatDateString(readString(buffer));
+        long millis = readDateMillis(buffer);
+        if(LanduDateUtil.NULL_TIME != millis) {
+            return new Date(millis);
+        }
+        return null;
+    }
+
+    /**
+     * 读取一个时间类型数据，直接解析ByteBuf中的字节<br>
+     *     时间字符串格式必须是yyyy-MM-dd HH:mm:ss，以0x00结束
+     *
+     * @param buffer ByteBuf
+     * @return 毫秒数，空字符串返回LanduDateUtil.NULL_TIME
+     */
+    public static long readDateMillis(ByteBuf buffer) throws ParseException {
+        int index = buffer.readerIndex();
+        int end = buffer.indexOf(index, buffer.writerIndex(), (byte) 0x00);
+        if(0 > end) {
+            end = buffer.writerIndex();
+        }
+        // 跳过字符串和结束符
+        buffer.readerIndex(end < buffer.writerIndex() ? end + 1 : end);
+        return LanduDateUtil.parseMillis(buffer, index, end - index);
     }
 
     /**
@@ -98,8 +462,9 @@ public class LanduDataPackUtil extends DataPackUtil {
      * @return Date
      */
     public static Date formatDateString(String dataString) throws ParseException {
-        if(null != dataString && !"".equals(dataString.trim())) {
-            return dateFormat.parse(dataString);
+        long millis = LanduDateUtil.parseMillis(dataString);
+        if(LanduDateUtil.NULL_TIME != millis) {
+            return new Date(millis);
         }
         return null;
     }
@@ -176,23 +541,43 @@ public class LanduDataPackUtil extends DataPackUtil {
         // 初始化位置数据对象
         DataPackPosition dataPackPosition = new DataPackPosition(dataPackObject);
 
+        // 直接解析ByteBuf中的字节，不创建中间字符串
         // 车速(km/h)
-        dataPackPosition.setSpeed(Float.parseFloat(readString(buffer)));
+        float speed = readAsciiFloat(buffer);
+        if(!Float.isNaN(speed)) {
+            dataPackPosition.setSpeed(speed);
+        }
         // 当前行程行驶距离(m)
-        dataPackPosition.setTravelDistance(Integer.parseInt(readString(buffer)));
+        int travelDistance = readAsciiInt(buffer);
+        if(ASCII_NULL_INT != travelDistance) {
+            dataPackPosition.setTravelDistance(travelDistance);
+        }
+        int index = buffer.readerIndex();
+        int end = stringEnd(buffer, index);
 
         // 位置数据格式：【经度】+【分割符】+【纬度】+【分割符】+【方向】+【分割符】+【定位时间】+【分割符】+【定位方式】
-        String[] positions = splitPositionString(buffer);
-        // 经度
-        dataPackPosition.setLongitude(parsePositionString(positions[0]));
-        // 纬度
-        dataPackPosition.setLatitude(parsePositionString(positions[1]));
-        // 方向
-        dataPackPosition.setDirection(Float.parseFloat(positions[2]));
-        // 定位时间
-        dataPackPosition.setPositionTime(formatDateString(positions[3]));
-        // 6.2.7 定位方式：0-无效数据，1-基站定位，2-GPS定位
-        dataPackPosition.setPositioMode(Integer.parseInt(positions[4]));
+        int comma1 = buffer.indexOf(index, end, (byte) ',');
+        int comma2 = 0 > comma1 ? -1 : buffer.indexOf(comma1 + 1, end, (byte) ',');
+        int comma3 = 0 > comma2 ? -1 : buffer.indexOf(comma2 + 1, end, (byte) ',');
+        int comma4 = 0 > comma3 ? -1 : buffer.indexOf(comma3 + 1, end, (byte) ',');
+        if(0 > comma4) {
+            // 格式不完整，按字符串方式处理
+            setPositionStrings(dataPackPosition, splitPositionString(buffer));
+        } else {
+            int comma5 = buffer.indexOf(comma4 + 1, end, (byte) ',');
+            // 经度
+            dataPackPosition.setLongitude(parsePosition(buffer, index, comma1));
+            // 纬度
+            dataPackPosition.setLatitude(parsePosition(buffer, comma1 + 1, comma2));
+            // 方向
+            dataPackPosition.setDirection(parseFloat(buffer, comma2 + 1, comma3));
+            // 定位时间
+            long positionTime = LanduDateUtil.parseMillis(buffer, comma3 + 1, comma4 - comma3 - 1);
+            dataPackPosition.setPositionTime(LanduDateUtil.NULL_TIME != positionTime ? new Date(positionTime) : null);
+            // 6.2.7 定位方式：0-无效数据，1-基站定位，2-GPS定位
+            dataPackPosition.setPositioMode(parseInt(buffer, comma4 + 1, 0 > comma5 ? end : comma5));
+            skipString(buffer, end);
+        }
         // 6.2.8 定位方式描述
         switch (dataPackPosition.getPositioMode()) {
             case 0:
@@ -211,6 +596,191 @@ public class LanduDataPackUtil extends DataPackUtil {
         return dataPackPosition;
     }
 
+    /**
+     * 读取极值数据(列式存储)<br>
+     *     每个极值为【数据项ID(WORD)】+【数据项内容(字符串)】，原始字节只复制一次，
+     *     数值直接从字节解析，不创建Peak对象和内容字符串
+     *
+     * @param buffer ByteBuf
+     * @param dataPackObject 基对象
+     * @param count 极值个数
+     * @return 极值数据对象
+     */
+    public static LanduPeakBatch readPeakBatch(ByteBuf buffer, DataPackObject dataPackObject, int count) {
+        // buffer和dataPackObject不能为null
+        if(null == buffer) {
+            throw new IllegalArgumentException("buffer is null");
+        }
+        if(null == dataPackObject) {
+            throw new IllegalArgumentException("dataPackObject is null");
+        }
+
+        // 1.定位每个数据项内容
+        short[] peakIds = new short[count];
+        int[] contentOffsets = new int[count];
+        int start = buffer.readerIndex();
+        for (int i = 0; i < count; i++) {
+            peakIds[i] = (short) readWord(buffer);
+            contentOffsets[i] = buffer.readerIndex() - start;
+            skipString(buffer, stringEnd(buffer, buffer.readerIndex()));
+        }
+
+        // 2.复制原始字节
+        byte[] contents = new byte[buffer.readerIndex() - start];
+        buffer.getBytes(start, contents);
+
+        // 3.确定极值数据表，按极值格式解析数值
+        LanduDataClassifyUtil.Peak[] tempatePeaks = new LanduDataClassifyUtil.Peak[count];
+        long[] values = new long[count];
+        LanduPeakBatch peakBatch = new LanduPeakBatch(dataPackObject, count, peakIds, tempatePeaks, values, contentOffsets, contents);
+        for (int i = 0; i < count; i++) {
+            tempatePeaks[i] = LanduDataClassifyUtil.getPeak(peakBatch.getPeakId(i));
+            values[i] = null != tempatePeaks[i]
+                    ? tempatePeaks[i].getPeakFormat().parse(contents, contentOffsets[i], peakBatch.getContentLength(i))
+                    : LanduPeakFormat.NULL_VALUE;
+        }
+        return peakBatch;
+    }
+
+    /**
+     * 设置位置数据(字符串方式)
+     *
+     * @param dataPackPosition 位置数据对象
+     * @param positions 位置字符串分割结果
+     */
+    private static void setPositionStrings(DataPackPosition dataPackPosition, String[] positions) throws ParseException {
+        // 经度
+        dataPackPosition.setLongitude(parsePositionString(positions[0]));
+        // 纬度
+        dataPackPosition.setLatitude(parsePositionString(positions[1]));
+        // 方向
+        dataPackPosition.setDirection(Float.parseFloat(positions[2]));
+        // 定位时间
+        dataPackPosition.setPositionTime(formatDateString(positions[3]));
+        // 6.2.7 定位方式：0-无效数据，1-基站定位，2-GPS定位
+        dataPackPosition.setPositioMode(Integer.parseInt(positions[4]));
+    }
+
+    /**
+     * 字符串结束位置(0x00或writerIndex)
+     */
+    private static int stringEnd(ByteBuf buffer, int index) {
+        int end = buffer.indexOf(index, buffer.writerIndex(), (byte) 0x00);
+        return 0 > end ? buffer.writerIndex() : end;
+    }
+
+    /**
+     * 跳过字符串和结束符
+     *
+     * @return 新的readerIndex
+     */
+    private static int skipString(ByteBuf buffer, int end) {
+        buffer.readerIndex(end < buffer.writerIndex() ? end + 1 : end);
+        return buffer.readerIndex();
+    }
+
+    /**
+     * 解析E|W/S|N表示方式的位置，与parsePositionString结果一致
+     */
+    private static double parsePosition(ByteBuf buffer, int index, int end) {
+        if(index < end) {
+            switch (buffer.getByte(index)) {
+                case 'E':
+                case 'N':
+                    // 东经北纬为正数
+                    return parseDouble(buffer, index + 1, end);
+                case 'W':
+                case 'S':
+                    // 西经南纬为负数
+                    return 0.0 - parseDouble(buffer, index + 1, end);
+                default:
+                    return 0;
+            }
+        }
+        return parsePositionString(buffer.toString(index, end - index, GBK));
+    }
+
+    /**
+     * 解析十进制小数，与Double.parseDouble结果一致<br>
+     *     尾数和10的n次方都能用double精确表示时，一次除法的结果就是正确舍入的结果
+     */
+    private static double parseDouble(ByteBuf buffer, int index, int end) {
+        long decimal = parseDecimal(buffer, index, end, 15);
+        if(0 <= decimal) {
+            double value = (decimal >>> 8) / POW10[(int) decimal & 0x3F];
+            return 0 == (decimal & 0x80) ? value : -value;
+        }
+        return Double.parseDouble(buffer.toString(index, end - index, GBK));
+    }
+
+    /**
+     * 解析十进制小数，与Float.parseFloat结果一致
+     */
+    private static float parseFloat(ByteBuf buffer, int index, int end) {
+        long decimal = parseDecimal(buffer, index, end, 7);
+        if(0 <= decimal) {
+            float value = (decimal >>> 8) / POW10F[(int) decimal & 0x3F];
+            return 0 == (decimal & 0x80) ? value : -value;
+        }
+        return Float.parseFloat(buffer.toString(index, end - index, GBK));
+    }
+
+    /**
+     * 解析十进制整数，与Integer.parseInt结果一致
+     */
+    private static int parseInt(ByteBuf buffer, int index, int end) {
+        long decimal = parseDecimal(buffer, index, end, 9);
+        if(0 <= decimal && 0 == (decimal & 0x40)) {
+            int value = (int) (decimal >>> 8);
+            return 0 == (decimal & 0x80) ? value : -value;
+        }
+        return Integer.parseInt(buffer.toString(index, end - index, GBK));
+    }
+
+    /**
+     * 解析[+|-]数字[.数字]格式的十进制数
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param end 结束位置(不包含)
+     * @param maxDigits 最多数字个数
+     * @return 尾数(高位) + 负号(1位) + 小数点(1位) + 小数位数(6位)，格式不符合或超过最多数字个数返回-1
+     */
+    private static long parseDecimal(ByteBuf buffer, int index, int end, int maxDigits) {
+        int i = index;
+        long sign = 0;
+        if(i < end) {
+            byte first = buffer.getByte(i);
+            if('-' == first) {
+                sign = 0x80;
+                i++;
+            } else if('+' == first) {
+                i++;
+            }
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (byte b; i < end; i++) {
+            b = buffer.getByte(i);
+            if('0' <= b && '9' >= b) {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if(0 <= scale) {
+                    scale++;
+                }
+            } else if('.' == b && 0 > scale) {
+                scale = 0;
+            } else {
+                return -1;
+            }
+        }
+        if(0 == digits || maxDigits < digits) {
+            return -1;
+        }
+        return 0 > scale ? mantissa << 8 | sign : mantissa << 8 | sign | 0x40 | scale;
+    }
+
     protected LanduDataPackUtil() {
         super();
     }
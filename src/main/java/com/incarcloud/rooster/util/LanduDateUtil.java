@@ -0,0 +1,256 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.Charset;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * LANDU 时间工具类<br>
+ *     时间格式固定为yyyy-MM-dd HH:mm:ss(19个ASCII字符)，直接按字节解析和格式化，线程安全且不创建中间对象<br>
+ *     不符合固定格式的时间交给线程独立的SimpleDateFormat处理，结果与SimpleDateFormat一致
+ *
+ * @since 2.0
+ */
+public class LanduDateUtil {
+
+    /**
+     * 时间格式
+     */
+    public static final String DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    /**
+     * 时间字符串长度
+     */
+    public static final int DATE_LENGTH = 19;
+
+    /**
+     * 空时间
+     */
+    public static final long NULL_TIME = Long.MIN_VALUE;
+
+    /**
+     * 时区(与SimpleDateFormat一致，使用类加载时的默认时区)
+     */
+    private static final TimeZone TIME_ZONE = TimeZone.getDefault();
+
+    /**
+     * 格里高利历开始使用的年份，之前的时间交给SimpleDateFormat处理(儒略历)
+     */
+    private static final int MIN_FAST_YEAR = 1583;
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+    private static final Charset GBK = Charset.forName("GBK");
+
+    /**
+     * 非固定格式时间使用的SimpleDateFormat，每个线程一个
+     */
+    private static final ThreadLocal<DateFormat> DATE_FORMAT = ThreadLocal.withInitial(() -> {
+        DateFormat dateFormat = new SimpleDateFormat(DATE_PATTERN, Locale.CHINA);
+        dateFormat.setTimeZone(TIME_ZONE);
+        return dateFormat;
+    });
+
+    /**
+     * 解析ByteBuf中的时间字符串，不改变readerIndex
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param length 字节数
+     * @return 毫秒数，空字符串返回NULL_TIME
+     * @throws ParseException 时间格式错误
+     */
+    public static long parseMillis(ByteBuf buffer, int index, int length) throws ParseException {
+        if(DATE_LENGTH == length
+                && '-' == buffer.getByte(index + 4) && '-' == buffer.getByte(index + 7) && ' ' == buffer.getByte(index + 10)
+                && ':' == buffer.getByte(index + 13) && ':' == buffer.getByte(index + 16)) {
+            long millis = toMillis(number(buffer.getByte(index), buffer.getByte(index + 1)) * 100 + number(buffer.getByte(index + 2), buffer.getByte(index + 3)),
+                    number(buffer.getByte(index + 5), buffer.getByte(index + 6)),
+                    number(buffer.getByte(index + 8), buffer.getByte(index + 9)),
+                    number(buffer.getByte(index + 11), buffer.getByte(index + 12)),
+                    number(buffer.getByte(index + 14), buffer.getByte(index + 15)),
+                    number(buffer.getByte(index + 17), buffer.getByte(index + 18)));
+            if(NULL_TIME != millis) {
+                return millis;
+            }
+        }
+        return parseMillisSlow(buffer.toString(index, length, GBK));
+    }
+
+    /**
+     * 解析时间字符串
+     *
+     * @param dateString 时间字符串
+     * @return 毫秒数，空字符串返回NULL_TIME
+     * @throws ParseException 时间格式错误
+     */
+    public static long parseMillis(CharSequence dateString) throws ParseException {
+        if(null == dateString) {
+            return NULL_TIME;
+        }
+        if(DATE_LENGTH == dateString.length()
+                && '-' == dateString.charAt(4) && '-' == dateString.charAt(7) && ' ' == dateString.charAt(10)
+                && ':' == dateString.charAt(13) && ':' == dateString.charAt(16)) {
+            long millis = toMillis(number(dateString.charAt(0), dateString.charAt(1)) * 100 + number(dateString.charAt(2), dateString.charAt(3)),
+                    number(dateString.charAt(5), dateString.charAt(6)),
+                    number(dateString.charAt(8), dateString.charAt(9)),
+                    number(dateString.charAt(11), dateString.charAt(12)),
+                    number(dateString.charAt(14), dateString.charAt(15)),
+                    number(dateString.charAt(17), dateString.charAt(18)));
+            if(NULL_TIME != millis) {
+                return millis;
+            }
+        }
+        return parseMillisSlow(dateString.toString());
+    }
+
+    /**
+     * 格式化时间
+     *
+     * @param millis 毫秒数
+     * @return yyyy-MM-dd HH:mm:ss
+     */
+    public static String format(long millis) {
+        long local = millis + TIME_ZONE.getOffset(millis);
+        long days = Math.floorDiv(local, MILLIS_PER_DAY);
+        int date = civilFromDays(days);
+        if(0 > date) {
+            return DATE_FORMAT.get().format(new Date(millis));
+        }
+        int seconds = (int) (Math.floorMod(local, MILLIS_PER_DAY) / 1000);
+        char[] chars = new char[DATE_LENGTH];
+        int year = date >>> 9;
+        chars[0] = (char) ('0' + year / 1000);
+        chars[1] = (char) ('0' + year / 100 % 10);
+        chars[2] = (char) ('0' + year / 10 % 10);
+        chars[3] = (char) ('0' + year % 10);
+        chars[4] = '-';
+        putNumber(chars, 5, (date >>> 5) & 0x0F);
+        chars[7] = '-';
+        putNumber(chars, 8, date & 0x1F);
+        chars[10] = ' ';
+        putNumber(chars, 11, seconds / 3600);
+        chars[13] = ':';
+        putNumber(chars, 14, seconds / 60 % 60);
+        chars[16] = ':';
+        putNumber(chars, 17, seconds % 60);
+        return new String(chars);
+    }
+
+    /**
+     * 格式化时间并写入ByteBuf(ASCII，不包括结束符)
+     *
+     * @param buffer ByteBuf
+     * @param millis 毫秒数
+     */
+    public static void writeDate(ByteBuf buffer, long millis) {
+        long local = millis + TIME_ZONE.getOffset(millis);
+        int date = civilFromDays(Math.floorDiv(local, MILLIS_PER_DAY));
+        if(0 > date) {
+            buffer.writeBytes(DATE_FORMAT.get().format(new Date(millis)).getBytes(GBK));
+            return;
+        }
+        int seconds = (int) (Math.floorMod(local, MILLIS_PER_DAY) / 1000);
+        int year = date >>> 9;
+        buffer.writeByte('0' + year / 1000);
+        buffer.writeByte('0' + year / 100 % 10);
+        buffer.writeByte('0' + year / 10 % 10);
+        buffer.writeByte('0' + year % 10);
+        buffer.writeByte('-');
+        writeNumber(buffer, (date >>> 5) & 0x0F);
+        buffer.writeByte('-');
+        writeNumber(buffer, date & 0x1F);
+        buffer.writeByte(' ');
+        writeNumber(buffer, seconds / 3600);
+        buffer.writeByte(':');
+        writeNumber(buffer, seconds / 60 % 60);
+        buffer.writeByte(':');
+        writeNumber(buffer, seconds % 60);
+    }
+
+    /**
+     * 非固定格式时间
+     */
+    private static long parseMillisSlow(String dateString) throws ParseException {
+        if("".equals(dateString.trim())) {
+            return NULL_TIME;
+        }
+        return DATE_FORMAT.get().parse(dateString).getTime();
+    }
+
+    /**
+     * 两位数字，不是数字返回负数
+     */
+    private static int number(int high, int low) {
+        if('0' > high || '9' < high || '0' > low || '9' < low) {
+            return -10000;
+        }
+        return (high - '0') * 10 + (low - '0');
+    }
+
+    /**
+     * 本地时间转毫秒数，超出快速处理范围返回NULL_TIME
+     */
+    private static long toMillis(int year, int month, int day, int hour, int minute, int second) {
+        if(MIN_FAST_YEAR > year || 1 > month || 12 < month || 1 > day || 31 < day
+                || 0 > hour || 23 < hour || 0 > minute || 59 < minute || 0 > second || 59 < second) {
+            return NULL_TIME;
+        }
+        long local = (daysFromCivil(year, month, day) * 86400L + hour * 3600 + minute * 60 + second) * 1000L;
+        // 本地时间转UTC，夏令时需要按转换后的时间再取一次偏移
+        long millis = local - TIME_ZONE.getRawOffset();
+        millis = local - TIME_ZONE.getOffset(millis);
+        return local - TIME_ZONE.getOffset(millis);
+    }
+
+    /**
+     * 日期转1970-01-01起的天数
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468;
+    }
+
+    /**
+     * 1970-01-01起的天数转日期
+     *
+     * @return 年(高位) + 月(4位) + 日(5位)，超出快速处理范围返回-1
+     */
+    private static int civilFromDays(long days) {
+        long z = days + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if(MIN_FAST_YEAR > year || 9999 < year) {
+            return -1;
+        }
+        return (int) year << 9 | month << 5 | day;
+    }
+
+    private static void putNumber(char[] chars, int index, int value) {
+        chars[index] = (char) ('0' + value / 10);
+        chars[index + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void writeNumber(ByteBuf buffer, int value) {
+        buffer.writeByte('0' + value / 10);
+        buffer.writeByte('0' + value % 10);
+    }
+
+    protected LanduDateUtil() {}
+}
@@ -0,0 +1,192 @@
+package com.incarcloud.rooster.util;
+
+/**
+ * LANDU 故障码工具类<br>
+ *     按SAE J2012标准把5个字符的故障码(如P0201)压缩为16位整数：
+ *     系统(2位，P=0，C=1，B=2，U=3) + 第1位数字(2位，0~3) + 后3位十六进制数字(12位)。
+ *     同一系统内整数大小顺序与故障码字符串顺序一致，不同系统按P、C、B、U排列，
+ *     与故障码字符串的字典顺序(B、C、P、U)不同
+ *
+ * @since 2.0
+ */
+public class LanduDtcUtil {
+
+    /**
+     * 不是标准故障码
+     */
+    public static final int NULL_DTC = -1;
+
+    /**
+     * 动力系统(P)
+     */
+    public static final int SYSTEM_POWERTRAIN = 0;
+
+    /**
+     * 底盘(C)
+     */
+    public static final int SYSTEM_CHASSIS = 1;
+
+    /**
+     * 车身(B)
+     */
+    public static final int SYSTEM_BODY = 2;
+
+    /**
+     * 网络(U)
+     */
+    public static final int SYSTEM_NETWORK = 3;
+
+    /**
+     * 系统字符
+     */
+    private static final char[] SYSTEM_CHARS = {'P', 'C', 'B', 'U'};
+
+    /**
+     * 十六进制字符
+     */
+    private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * 压缩故障码
+     *
+     * @param code 故障码，如P0201，不区分大小写
+     * @return 16位故障码，不是标准故障码返回NULL_DTC
+     */
+    public static int pack(CharSequence code) {
+        if(null == code || 5 != code.length()) {
+            return NULL_DTC;
+        }
+        int system = systemOf(code.charAt(0));
+        int first = code.charAt(1) - '0';
+        if(0 > system || 0 > first || 3 < first) {
+            return NULL_DTC;
+        }
+        int dtc = system << 14 | first << 12;
+        for (int i = 2; i < 5; i++) {
+            int digit = hexDigit(code.charAt(i));
+            if(0 > digit) {
+                return NULL_DTC;
+            }
+            dtc |= digit << (4 - i) * 4;
+        }
+        return dtc;
+    }
+
+    /**
+     * 还原故障码字符串
+     *
+     * @param dtc 16位故障码
+     * @return 大写故障码，NULL_DTC返回null
+     */
+    public static String unpack(int dtc) {
+        if(0 > dtc || 0xFFFF < dtc) {
+            return null;
+        }
+        return new String(new char[]{
+                SYSTEM_CHARS[dtc >>> 14],
+                HEX_CHARS[dtc >>> 12 & 0x3],
+                HEX_CHARS[dtc >>> 8 & 0xF],
+                HEX_CHARS[dtc >>> 4 & 0xF],
+                HEX_CHARS[dtc & 0xF]});
+    }
+
+    /**
+     * 系统
+     *
+     * @param dtc 16位故障码
+     * @return SYSTEM_POWERTRAIN、SYSTEM_CHASSIS、SYSTEM_BODY或SYSTEM_NETWORK
+     */
+    public static int getSystem(int dtc) {
+        return dtc >>> 14 & 0x3;
+    }
+
+    /**
+     * 系统字符
+     *
+     * @param dtc 16位故障码
+     * @return P、C、B或U
+     */
+    public static char getSystemChar(int dtc) {
+        return SYSTEM_CHARS[getSystem(dtc)];
+    }
+
+    /**
+     * 是否由SAE定义的通用故障码，否则为厂商自定义故障码<br>
+     *     厂商自定义：P1xxx、P3000~P33FF、C1xxx、C2xxx、B1xxx、B2xxx、U1xxx、U2xxx；
+     *     其余为通用故障码，包括SAE保留的P3400~P3FFF、C3xxx、B3xxx和U3xxx
+     *
+     * @param dtc 16位故障码
+     * @return
+     */
+    public static boolean isGeneric(int dtc) {
+        int first = dtc >>> 12 & 0x3;
+        if(SYSTEM_POWERTRAIN != getSystem(dtc)) {
+            return 0 == first || 3 == first;
+        }
+        switch (first) {
+            case 1:
+                return false;
+            case 3:
+                // P3000~P33FF为厂商自定义
+                return 0x3400 <= (dtc & 0x3FFF);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 故障码分组(系统 + 前两位数字)，例如P0201和P02FF属于同一组P02xx
+     *
+     * @param dtc 16位故障码
+     * @return 分组的第一个故障码
+     */
+    public static int getGroup(int dtc) {
+        return dtc & 0xFF00;
+    }
+
+    /**
+     * 是否在故障码范围内
+     *
+     * @param dtc 16位故障码
+     * @param from 起始故障码(包括)
+     * @param to 结束故障码(包括)
+     * @return
+     */
+    public static boolean inRange(int dtc, int from, int to) {
+        return NULL_DTC != dtc && from <= dtc && dtc <= to;
+    }
+
+    private static int systemOf(char c) {
+        switch (c) {
+            case 'P':
+            case 'p':
+                return SYSTEM_POWERTRAIN;
+            case 'C':
+            case 'c':
+                return SYSTEM_CHASSIS;
+            case 'B':
+            case 'b':
+                return SYSTEM_BODY;
+            case 'U':
+            case 'u':
+                return SYSTEM_NETWORK;
+            default:
+                return -1;
+        }
+    }
+
+    private static int hexDigit(char c) {
+        if('0' <= c && '9' >= c) {
+            return c - '0';
+        }
+        if('A' <= c && 'F' >= c) {
+            return c - 'A' + 10;
+        }
+        if('a' <= c && 'f' >= c) {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    protected LanduDtcUtil() {}
+}
@@ -0,0 +1,96 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * LANDU 数据帧工具类
+ *
+ * @since 2.0
+ */
+public class LanduFrameUtil {
+
+    /**
+     * 数据包标志第1个字节
+     */
+    public static final int SYNC_HIGH = 0xAA;
+
+    /**
+     * 数据包标志第2个字节
+     */
+    public static final int SYNC_LOW = 0x55;
+
+    private static final long LANE_LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long SYNC_HIGH_PATTERN = 0xAAAAAAAAAAAAAAAAL;
+    private static final long SYNC_LOW_PATTERN = 0x5555555555555555L;
+
+    /**
+     * 查找下一个数据包标志(AA55)的位置<br>
+     *     每次读取8个字节(大端序)，同时比较7个候选位置，耗时仍与垃圾数据长度成正比，但循环次数约为逐字节比较的1/7
+     *
+     * @param buffer ByteBuf
+     * @param fromIndex 起始位置(包含)
+     * @param toIndex 结束位置(不包含)
+     * @return AA的位置，没有找到返回-1
+     */
+    public static int indexOfSyncWord(ByteBuf buffer, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        // 8字节一组，第8个字节的标志跨组，所以每次前进7个字节
+        while (i + 8 <= toIndex) {
+            long word = buffer.getLong(i);
+            long mask = matchLanes(word, SYNC_HIGH_PATTERN) & (matchLanes(word, SYNC_LOW_PATTERN) << 8);
+            if (0 != mask) {
+                return i + (Long.numberOfLeadingZeros(mask) >>> 3);
+            }
+            i += 7;
+        }
+        // 剩余不足8个字节
+        for (int n = toIndex - 1; i < n; i++) {
+            if (SYNC_HIGH == (buffer.getByte(i) & 0xFF) && SYNC_LOW == (buffer.getByte(i + 1) & 0xFF)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 判断位置index是否为数据包标志(AA55)
+     *
+     * @param buffer ByteBuf
+     * @param index 位置
+     * @return true-是数据包标志
+     */
+    public static boolean isSyncWord(ByteBuf buffer, int index) {
+        return SYNC_HIGH == (buffer.getByte(index) & 0xFF) && SYNC_LOW == (buffer.getByte(index + 1) & 0xFF);
+    }
+
+    /**
+     * 跳到下一个可能的数据包标志<br>
+     *     找不到时只保留最后1个字节(可能是被拆开的AA)
+     *
+     * @param buffer ByteBuf
+     * @return true-readerIndex已经指向数据包标志
+     */
+    public static boolean skipToSyncWord(ByteBuf buffer) {
+        int offset = buffer.readerIndex();
+        int max = buffer.writerIndex();
+        int index = indexOfSyncWord(buffer, offset, max);
+        if (-1 == index) {
+            if (1 < max - offset) {
+                buffer.readerIndex(max - 1);
+            }
+            return false;
+        }
+        buffer.readerIndex(index);
+        return true;
+    }
+
+    /**
+     * 逐字节比较(SWAR)，相等的字节最高位置1，其余位为0，字节之间没有进位
+     */
+    private static long matchLanes(long word, long pattern) {
+        long t = word ^ pattern;
+        return ~(((t & LANE_LOW_BITS) + LANE_LOW_BITS) | t | LANE_LOW_BITS);
+    }
+
+    protected LanduFrameUtil() {}
+}
@@ -0,0 +1,96 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * LANDU 设备身份缓存<br>
+ *     按设备号、VID和VIN的原始字节查找已经解码的身份信息，同一设备的重复数据包只比较字节，不解码也不校验VIN<br>
+ *     使用LanduByteKeyCache，哈希冲突时新身份替换旧身份，缓存大小固定；可以在多个线程之间共享
+ *
+ * @since 2.0
+ */
+public final class LanduIdentityCache {
+
+    /**
+     * 设备身份
+     */
+    public static final class Identity {
+
+        private final String deviceId;
+        private final String vid;
+        private final String vin;
+        private final boolean vinValid;
+
+        private Identity(String deviceId, String vid, String vin, boolean vinValid) {
+            this.deviceId = deviceId;
+            this.vid = vid;
+            this.vin = vin;
+            this.vinValid = vinValid;
+        }
+
+        public String getDeviceId() {
+            return deviceId;
+        }
+
+        public String getVid() {
+            return vid;
+        }
+
+        public String getVin() {
+            return vin;
+        }
+
+        /**
+         * VIN是否合法(17位数字或大写字母)
+         *
+         * @return
+         */
+        public boolean isVinValid() {
+            return vinValid;
+        }
+    }
+
+    /**
+     * 按设备号、VID和VIN的原始字节查找的缓存
+     */
+    private final LanduByteKeyCache<Identity> cache;
+
+    /**
+     * @param capacity 缓存项个数(向上取2的n次方)
+     */
+    public LanduIdentityCache(int capacity) {
+        this.cache = new LanduByteKeyCache<>(capacity);
+    }
+
+    /**
+     * 获得设备身份，不改变readerIndex
+     *
+     * @param buffer ByteBuf
+     * @param deviceIdIndex 设备号起始位置
+     * @param deviceIdLength 设备号字节数
+     * @param vidIndex VID起始位置
+     * @param vidLength VID字节数
+     * @param vinIndex VIN起始位置
+     * @param vinLength VIN字节数
+     * @return 缓存的设备身份，没有时解码并缓存
+     */
+    public Identity get(ByteBuf buffer, int deviceIdIndex, int deviceIdLength, int vidIndex, int vidLength, int vinIndex, int vinLength) {
+        Identity identity = cache.get(buffer, deviceIdIndex, deviceIdLength, vidIndex, vidLength, vinIndex, vinLength);
+        if(null == identity) {
+            identity = new Identity(
+                    LanduDataPackUtil.decodeString(buffer, deviceIdIndex, deviceIdLength),
+                    LanduDataPackUtil.decodeString(buffer, vidIndex, vidLength),
+                    LanduDataPackUtil.decodeString(buffer, vinIndex, vinLength),
+                    LanduDataPackUtil.isVin(buffer, vinIndex, vinLength));
+            cache.put(buffer, deviceIdIndex, deviceIdLength, vidIndex, vidLength, vinIndex, vinLength, identity);
+        }
+        return identity;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.clear();
+    }
+}
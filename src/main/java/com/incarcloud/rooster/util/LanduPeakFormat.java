@@ -0,0 +1,291 @@
+package com.incarcloud.rooster.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LANDU 极值格式<br>
+ *     由极值描述(如“%.1f，（0~100.0）”、“%d，（-40~215）”、“%s，（关 开）”)预编译得到，
+ *     把极值内容字符串解析为定点数(数值 * 10^scale)或枚举序号，并校验取值范围
+ *
+ * @since 2.0
+ */
+public class LanduPeakFormat {
+
+    /**
+     * 无数值
+     */
+    public static final long NULL_VALUE = Long.MIN_VALUE;
+
+    /**
+     * 极值类型
+     */
+    public enum Type {
+        /**
+         * 整数(%d)
+         */
+        INT,
+        /**
+         * 定点数(%.nf)
+         */
+        FIXED_POINT,
+        /**
+         * 枚举(%s，取值为括号中列出的选项之一)
+         */
+        ENUM,
+        /**
+         * 字符串(其它格式)
+         */
+        STRING
+    }
+
+    /**
+     * 格式字符：%d、%.nf或%s
+     */
+    private static final Pattern FORMAT_PATTERN = Pattern.compile("%(?:(d)|\\.(\\d)f|(s))");
+
+    /**
+     * 取值范围：（最小值~最大值）
+     */
+    private static final Pattern RANGE_PATTERN = Pattern.compile("（\\s*(-?[0-9.]+)\\s*~\\s*(-?[0-9.]+)\\s*）");
+
+    /**
+     * 枚举选项：（选项1 选项2 ...）或（[选项1] [选项2]）
+     */
+    private static final Pattern OPTIONS_PATTERN = Pattern.compile("^%s，（(.+)）$");
+
+    private static final Pattern BRACKET_OPTION_PATTERN = Pattern.compile("\\[([^\\]]+)\\]");
+
+    private static final Charset GBK = Charset.forName("GBK");
+
+    /**
+     * 字符串格式
+     */
+    private static final LanduPeakFormat STRING_FORMAT = new LanduPeakFormat(Type.STRING, 0, NULL_VALUE, NULL_VALUE, null);
+
+    private final Type type;
+    private final int scale;
+    private final long min;
+    private final long max;
+    private final String[] options;
+
+    /**
+     * 枚举选项的GBK编码，用于直接比较数据包中的字节
+     */
+    private final byte[][] optionBytes;
+
+    private LanduPeakFormat(Type type, int scale, long min, long max, String[] options) {
+        this.type = type;
+        this.scale = scale;
+        this.min = min;
+        this.max = max;
+        this.options = options;
+        if(null != options) {
+            this.optionBytes = new byte[options.length][];
+            for (int i = 0; i < options.length; i++) {
+                this.optionBytes[i] = options[i].getBytes(GBK);
+            }
+        } else {
+            this.optionBytes = null;
+        }
+    }
+
+    /**
+     * 编译极值描述
+     *
+     * @param peakDesc 极值描述
+     * @return 无法识别的格式按字符串处理
+     */
+    public static LanduPeakFormat compile(String peakDesc) {
+        if(null == peakDesc) {
+            return STRING_FORMAT;
+        }
+        Matcher matcher = FORMAT_PATTERN.matcher(peakDesc);
+        if(!matcher.find()) {
+            return STRING_FORMAT;
+        }
+
+        // 1.字符串或枚举
+        if(null != matcher.group(3)) {
+            Matcher optionsMatcher = OPTIONS_PATTERN.matcher(peakDesc);
+            if(!optionsMatcher.matches() || optionsMatcher.group(1).contains("…")) {
+                return STRING_FORMAT;
+            }
+            String optionsString = optionsMatcher.group(1);
+            String[] options;
+            if(optionsString.contains("[")) {
+                Matcher bracketMatcher = BRACKET_OPTION_PATTERN.matcher(optionsString);
+                List<String> optionList = new ArrayList<>();
+                while(bracketMatcher.find()) {
+                    optionList.add(bracketMatcher.group(1));
+                }
+                options = optionList.toArray(new String[optionList.size()]);
+            } else {
+                options = optionsString.trim().split("\\s+");
+            }
+            return new LanduPeakFormat(Type.ENUM, 0, 0, options.length - 1, options);
+        }
+
+        // 2.整数或定点数
+        int scale = null != matcher.group(2) ? matcher.group(2).charAt(0) - '0' : 0;
+        Type type = null != matcher.group(1) ? Type.INT : Type.FIXED_POINT;
+        long min = Long.MIN_VALUE + 1;
+        long max = Long.MAX_VALUE;
+        Matcher rangeMatcher = RANGE_PATTERN.matcher(peakDesc);
+        if(rangeMatcher.find()) {
+            // 设备按格式四舍五入输出，范围也按相同精度四舍五入
+            min = new BigDecimal(rangeMatcher.group(1)).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValue();
+            max = new BigDecimal(rangeMatcher.group(2)).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValue();
+        }
+        return new LanduPeakFormat(type, scale, min, max, null);
+    }
+
+    /**
+     * 解析极值内容
+     *
+     * @param content 极值内容
+     * @return 整数和定点数返回数值 * 10^scale，枚举返回选项序号，字符串、空内容、“---”或格式错误返回NULL_VALUE
+     */
+    public long parse(CharSequence content) {
+        if(null == content) {
+            return NULL_VALUE;
+        }
+        switch (type) {
+            case INT:
+            case FIXED_POINT:
+                return parseFixedPoint(content, null, 0, content.length(), scale);
+            case ENUM:
+                for (int i = 0; i < options.length; i++) {
+                    if(options[i].contentEquals(content)) {
+                        return i;
+                    }
+                }
+                return NULL_VALUE;
+            default:
+                return NULL_VALUE;
+        }
+    }
+
+    /**
+     * 解析极值内容(GBK编码的字节)，结果与parse(CharSequence)一致，不创建字符串
+     *
+     * @param bytes 字节数组
+     * @param offset 起始位置
+     * @param length 字节数
+     * @return 整数和定点数返回数值 * 10^scale，枚举返回选项序号，字符串、空内容、“---”或格式错误返回NULL_VALUE
+     */
+    public long parse(byte[] bytes, int offset, int length) {
+        switch (type) {
+            case INT:
+            case FIXED_POINT:
+                return parseFixedPoint(null, bytes, offset, length, scale);
+            case ENUM:
+                for (int i = 0; i < optionBytes.length; i++) {
+                    if(equals(optionBytes[i], bytes, offset, length)) {
+                        return i;
+                    }
+                }
+                return NULL_VALUE;
+            default:
+                return NULL_VALUE;
+        }
+    }
+
+    /**
+     * 数值是否有效(不是NULL_VALUE且在取值范围内)
+     *
+     * @param value 解析结果
+     * @return true-有效
+     */
+    public boolean isValid(long value) {
+        return NULL_VALUE != value && min <= value && max >= value;
+    }
+
+    /**
+     * 解析十进制小数为定点数，超出精度的部分四舍五入<br>
+     *     bytes不为null时解析字节数组，否则解析content
+     */
+    private static long parseFixedPoint(CharSequence content, byte[] bytes, int offset, int length, int scale) {
+        int i = 0;
+        boolean negative = false;
+        int sign = 0 < length ? charAt(content, bytes, offset) : 0;
+        if('-' == sign || '+' == sign) {
+            negative = '-' == sign;
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        boolean roundUp = false;
+        for (int c; i < length; i++) {
+            c = charAt(content, bytes, offset + i);
+            if('0' <= c && '9' >= c) {
+                digits++;
+                if(fractionDigits < scale) {
+                    if(18 < digits) {
+                        return NULL_VALUE;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                    if(0 <= fractionDigits) {
+                        fractionDigits++;
+                    }
+                } else if(fractionDigits == scale) {
+                    // 第一位被舍去的数字
+                    roundUp = '5' <= c;
+                    fractionDigits++;
+                }
+            } else if('.' == c && 0 > fractionDigits) {
+                fractionDigits = 0;
+            } else {
+                return NULL_VALUE;
+            }
+        }
+        if(0 == digits) {
+            return NULL_VALUE;
+        }
+        for (int n = Math.max(fractionDigits, 0); n < scale; n++) {
+            mantissa *= 10;
+        }
+        if(roundUp) {
+            mantissa++;
+        }
+        return negative ? -mantissa : mantissa;
+    }
+
+    private static int charAt(CharSequence content, byte[] bytes, int index) {
+        return null != bytes ? bytes[index] & 0xFF : content.charAt(index);
+    }
+
+    private static boolean equals(byte[] option, byte[] bytes, int offset, int length) {
+        if(option.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if(option[i] != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+}
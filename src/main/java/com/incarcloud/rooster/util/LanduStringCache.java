@@ -0,0 +1,63 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * LANDU 字符串缓存<br>
+ *     按原始字节查找已经解码的字符串，命中时不复制字节也不解码，重复的故障码、属性和描述共用同一个String对象<br>
+ *     使用LanduByteKeyCache，哈希冲突时新字符串替换旧字符串，缓存大小固定；可以在多个线程之间共享
+ *
+ * @since 2.0
+ */
+public final class LanduStringCache {
+
+    /**
+     * 按原始字节查找的缓存
+     */
+    private final LanduByteKeyCache<String> cache;
+
+    /**
+     * 缓存字符串的最大字节数，更长的字符串直接解码
+     */
+    private final int maxLength;
+
+    /**
+     * @param capacity 缓存项个数(向上取2的n次方)
+     * @param maxLength 缓存字符串的最大字节数
+     */
+    public LanduStringCache(int capacity, int maxLength) {
+        if(0 >= capacity || 0 > maxLength) {
+            throw new IllegalArgumentException("capacity: " + capacity + ", maxLength: " + maxLength);
+        }
+        this.cache = new LanduByteKeyCache<>(capacity);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 获得字符串，不改变readerIndex
+     *
+     * @param buffer ByteBuf
+     * @param index 起始位置
+     * @param length 字节数
+     * @return 缓存的字符串，没有时按GBK解码并缓存
+     */
+    public String get(ByteBuf buffer, int index, int length) {
+        if(0 == length || maxLength < length) {
+            return LanduDataPackUtil.decodeString(buffer, index, length);
+        }
+
+        String string = cache.get(buffer, index, length);
+        if(null == string) {
+            string = LanduDataPackUtil.decodeString(buffer, index, length);
+            cache.put(buffer, index, length, string);
+        }
+        return string;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.clear();
+    }
+}
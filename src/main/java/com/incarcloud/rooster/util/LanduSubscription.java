@@ -0,0 +1,113 @@
+package com.incarcloud.rooster.util;
+
+/**
+ * LANDU 订阅位图<br>
+ *     按命令字或数据项ID(无符号16位)记录是否需要解析，未订阅的命令字或数据项按长度跳过，不创建任何对象<br>
+ *     创建后不能修改，可以在多个解析器和线程之间共享
+ *
+ * <pre>
+ * // 只解析行驶数据和怠速数据
+ * parser.setCommandSubscription(LanduSubscription.of(0x1601, 0x1608));
+ * </pre>
+ *
+ * @since 2.0
+ */
+public final class LanduSubscription {
+
+    /**
+     * ID个数
+     */
+    private static final int ID_COUNT = 0x10000;
+
+    /**
+     * 订阅全部ID
+     */
+    public static final LanduSubscription ALL = new LanduSubscription(new long[ID_COUNT >>> 6]).withRange(0, 0xFFFF);
+
+    /**
+     * 不订阅任何ID
+     */
+    public static final LanduSubscription NONE = new LanduSubscription(new long[ID_COUNT >>> 6]);
+
+    /**
+     * 位图，每个ID一位
+     */
+    private final long[] bits;
+
+    private LanduSubscription(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * 只订阅指定的ID
+     *
+     * @param ids ID列表
+     * @return
+     */
+    public static LanduSubscription of(int... ids) {
+        return NONE.with(ids);
+    }
+
+    /**
+     * 在当前订阅基础上增加ID
+     *
+     * @param ids ID列表
+     * @return 新的订阅位图
+     */
+    public LanduSubscription with(int... ids) {
+        long[] newBits = bits.clone();
+        for (int id : ids) {
+            checkId(id);
+            newBits[id >>> 6] |= 1L << id;
+        }
+        return new LanduSubscription(newBits);
+    }
+
+    /**
+     * 在当前订阅基础上增加ID范围
+     *
+     * @param fromId 起始ID(包括)
+     * @param toId 结束ID(包括)
+     * @return 新的订阅位图
+     */
+    public LanduSubscription withRange(int fromId, int toId) {
+        checkId(fromId);
+        checkId(toId);
+        long[] newBits = bits.clone();
+        for (int id = fromId; id <= toId; id++) {
+            newBits[id >>> 6] |= 1L << id;
+        }
+        return new LanduSubscription(newBits);
+    }
+
+    /**
+     * 在当前订阅基础上去掉ID
+     *
+     * @param ids ID列表
+     * @return 新的订阅位图
+     */
+    public LanduSubscription without(int... ids) {
+        long[] newBits = bits.clone();
+        for (int id : ids) {
+            checkId(id);
+            newBits[id >>> 6] &= ~(1L << id);
+        }
+        return new LanduSubscription(newBits);
+    }
+
+    /**
+     * 是否订阅
+     *
+     * @param id 命令字或数据项ID
+     * @return 超出范围的ID返回false
+     */
+    public boolean isSubscribed(int id) {
+        return 0 <= id && ID_COUNT > id && 0 != (bits[id >>> 6] & 1L << id);
+    }
+
+    private static void checkId(int id) {
+        if(0 > id || ID_COUNT <= id) {
+            throw new IllegalArgumentException("illegal id: " + id);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataPackOverview;
+import com.incarcloud.rooster.datapack.DataPackPosition;
+import com.incarcloud.rooster.datapack.DataPackTarget;
+import com.incarcloud.rooster.datapack.DataParserLanduUbi;
+import com.incarcloud.rooster.datapack.ERespReason;
+import com.incarcloud.rooster.datapack.LanduAdasAlarm;
+import com.incarcloud.rooster.datapack.LanduConditionVector;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DataParserLanduUbiTest
+ *
+ * @since 2.0
+ */
+public class DataParserLanduUbiTest {
+
+    @Test
+    public void testCreateResponse() {
+        DataParserLanduUbi parser = new DataParserLanduUbi();
+        DataPack dataPack = new DataPack("china", "landu-ubi", "3.08");
+        dataPack.setBuf(Unpooled.wrappedBuffer(LanduFrames.frame(7, new byte[]{0x16, 0x20, 0x00})));
+        ByteBuf responseBuf = parser.createResponse(dataPack, ERespReason.OK, PooledByteBufAllocator.DEFAULT);
+        Assert.assertEquals(7, responseBuf.getByte(6));
+        Assert.assertEquals(0x1620, responseBuf.getUnsignedShort(8));
+        Assert.assertEquals(13, responseBuf.readableBytes());
+        parser.destroyResponse(responseBuf);
+        Assert.assertEquals(0, responseBuf.refCnt());
+        dataPack.freeBuf();
+    }
+
+    @Test
+    public void testCreateResponseIncomplete() {
+        DataPack dataPack = new DataPack("china", "landu-ubi", "3.08");
+        dataPack.setBuf(Unpooled.wrappedBuffer(new byte[]{(byte) 0xAA, 0x55, 0x00}));
+        Assert.assertNull(new DataParserLanduUbi().createResponse(dataPack, ERespReason.OK, PooledByteBufAllocator.DEFAULT));
+        dataPack.freeBuf();
+    }
+
+    /**
+     * 车身数据、ADAS报警和行程数据
+     */
+    private static final int[][] ITEMS = {
+            {0x0400, 0x21},
+            {0x0A01, 0x00, 0x00, 0x07, 0x00, 0x01, 0x20, 0x02, 0x00, 0x0F, 0x86, 0x03, 0x02},
+            {0x0E03, 0x00, 0x05},
+            {0x0441, 0x01, 0x02}
+    };
+
+    /**
+     * 位置数据
+     */
+    private static final int[][] POSITION_ITEMS = {
+            {0x0602, 0x01},
+            {0x0603, 0x09},
+            {0x0605, 0x06, 0xEF, 0x81, 0x40},
+            {0x0609, 0x00, 0x00, 0x01, 0x5E, 0x3B, 0x2C, 0x10}
+    };
+
+    /**
+     * 创建0x1620数据帧
+     *
+     * @param items 数据项：数据项ID + 数据值
+     * @return 数据帧
+     */
+    private static byte[] frame1620(int[]... items) {
+        ByteBuf itemBuf = Unpooled.buffer();
+        for (int[] item : items) {
+            itemBuf.writeShort(item[0]).writeByte(item.length - 1);
+            for (int i = 1; i < item.length; i++) {
+                itemBuf.writeByte(item[i]);
+            }
+        }
+        ByteBuf contentBuf = Unpooled.buffer();
+        contentBuf.writeShort(0x1620);
+        contentBuf.writeBytes("DEV01\u0000".getBytes(StandardCharsets.US_ASCII)).writeInt(77);
+        contentBuf.writeBytes("VID\u0000LSVAU033512345678\u0000".getBytes(StandardCharsets.US_ASCII));
+        contentBuf.writeBytes("2017-08-04 15:50:00\u0000".getBytes(StandardCharsets.US_ASCII));
+        contentBuf.writeShort(items.length).writeShort(itemBuf.readableBytes()).writeBytes(itemBuf);
+        byte[] content = ByteBufUtil.getBytes(contentBuf);
+        itemBuf.release();
+        contentBuf.release();
+        return LanduFrames.frame(1, content);
+    }
+
+    /**
+     * 解析数据帧，返回解析结果的类型
+     */
+    private static List<Class<?>> extractTypes(byte[] frame) {
+        DataParserLanduUbi parser = new DataParserLanduUbi();
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame);
+        List<DataPack> dataPackList = parser.extract(buffer);
+        Assert.assertEquals(1, dataPackList.size());
+        List<DataPackTarget> dataPackTargetList = parser.extractBody(dataPackList.get(0));
+        dataPackList.get(0).freeBuf();
+        buffer.release();
+
+        List<Class<?>> types = new ArrayList<>();
+        for (DataPackTarget dataPackTarget : dataPackTargetList) {
+            types.add(dataPackTarget.getDataPackObject().getClass());
+        }
+        return types;
+    }
+
+    @Test
+    public void testExtractBody() {
+        int[][] items = Arrays.copyOf(ITEMS, ITEMS.length + POSITION_ITEMS.length);
+        System.arraycopy(POSITION_ITEMS, 0, items, ITEMS.length, POSITION_ITEMS.length);
+        Assert.assertEquals(Arrays.<Class<?>>asList(LanduConditionVector.class, DataPackPosition.class, DataPackOverview.class, LanduAdasAlarm.class),
+                extractTypes(frame1620(items)));
+    }
+
+    @Test
+    public void testExtractBodyWithoutPosition() {
+        // 没有0x0602~0x0609数据项时不输出位置数据
+        Assert.assertEquals(Arrays.<Class<?>>asList(LanduConditionVector.class, DataPackOverview.class, LanduAdasAlarm.class),
+                extractTypes(frame1620(ITEMS)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataPackAlarm;
+import com.incarcloud.rooster.datapack.DataPackObject;
+import com.incarcloud.rooster.datapack.LanduAdasAlarm;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LanduAdasAlarmTest
+ *
+ * @since 2.0
+ */
+public class LanduAdasAlarmTest {
+
+    /**
+     * 与逐个判断标志创建报警时的结果一致：名称，值
+     */
+    private static final String[][] EXPECTED = {
+            // 第一条：LDW开启、FCW、TSR开启(级别5)、HMW级别2
+            {"LEFTLDW", "1"}, {"RIGHTLDW", "1"}, {"FCW", "1"},
+            {"PedsDZ", "1"}, {"PedsFCW", "1"}, {"HMW", "2"}, {"TSR", "5"},
+            // 第二条：没有标志、HMW级别1
+            {"PedsDZ", "1"}, {"PedsFCW", "1"}, {"HMW", "1"}
+    };
+
+    private static long payload(int... bytes) {
+        return Unpooled.wrappedBuffer(new byte[]{
+                (byte) bytes[0], (byte) bytes[1], (byte) bytes[2], (byte) bytes[3],
+                (byte) bytes[4], (byte) bytes[5], (byte) bytes[6], (byte) bytes[7]}).getLong(0);
+    }
+
+    private static LanduAdasAlarm newAdasAlarm() {
+        LanduAdasAlarm adasAlarm = new LanduAdasAlarm(new DataPackObject(new DataPack("china", "landu-ubi", "3.08")));
+        adasAlarm.addEvent(payload(0x00, 0x00, 0x00, 0x01, 0b00001001, 0b10000000, 0b00000101, 0x02));
+        adasAlarm.addEvent(payload(0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x01));
+        return adasAlarm;
+    }
+
+    @Test
+    public void testGetAlarmList() {
+        LanduAdasAlarm adasAlarm = newAdasAlarm();
+        Assert.assertTrue(LanduAdasAlarm.isSet(adasAlarm.getPayload(0), LanduAdasAlarm.FCW));
+        Assert.assertEquals(-1, LanduAdasAlarm.getErrorCode(adasAlarm.getPayload(0)));
+
+        List<DataPackAlarm.Alarm> alarmList = adasAlarm.getAlarmList();
+        Assert.assertEquals(EXPECTED.length, alarmList.size());
+        for (int i = 0; i < EXPECTED.length; i++) {
+            Assert.assertEquals(EXPECTED[i][0], alarmList.get(i).getAlarmName());
+            Assert.assertEquals(EXPECTED[i][1], alarmList.get(i).getAlarmValue());
+        }
+        Assert.assertSame(alarmList, adasAlarm.getAlarmList());
+    }
+
+    @Test
+    public void testSetAlarmList() {
+        LanduAdasAlarm adasAlarm = newAdasAlarm();
+        List<DataPackAlarm.Alarm> alarmList = new ArrayList<>();
+        adasAlarm.setAlarmList(alarmList);
+        Assert.assertSame(alarmList, adasAlarm.getAlarmList());
+
+        // 添加数据之后重新展开
+        adasAlarm.addEvent(payload(0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00));
+        Assert.assertEquals(EXPECTED.length + 3, adasAlarm.getAlarmList().size());
+    }
+}
@@ -0,0 +1,48 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LanduByteKeyCacheTest
+ *
+ * @since 2.0
+ */
+public class LanduByteKeyCacheTest {
+
+    @Test
+    public void testGet() {
+        byte[] bytes = "xxABCxx".getBytes(StandardCharsets.US_ASCII);
+        ByteBuf heapBuffer = Unpooled.wrappedBuffer(bytes, 1, 5);
+        ByteBuf directBuffer = Unpooled.directBuffer().writeBytes(bytes);
+
+        LanduByteKeyCache<String> cache = new LanduByteKeyCache<>(16);
+        Assert.assertNull(cache.get(heapBuffer, 1, 3));
+        cache.put(heapBuffer, 1, 3, "ABC");
+        // 堆内存和直接内存的相同字节命中同一个缓存项
+        Assert.assertEquals("ABC", cache.get(heapBuffer, 1, 3));
+        Assert.assertEquals("ABC", cache.get(directBuffer, 2, 3));
+        Assert.assertNull(cache.get(directBuffer, 2, 2));
+
+        cache.clear();
+        Assert.assertNull(cache.get(heapBuffer, 1, 3));
+        heapBuffer.release();
+        directBuffer.release();
+    }
+
+    @Test
+    public void testGetRanges() {
+        ByteBuf buffer = Unpooled.copiedBuffer("ABCDEF", StandardCharsets.US_ASCII);
+        LanduByteKeyCache<String> cache = new LanduByteKeyCache<>(1);
+        cache.put(buffer, 0, 2, 2, 1, 3, 3, "AB|C|DEF");
+        Assert.assertEquals("AB|C|DEF", cache.get(buffer, 0, 2, 2, 1, 3, 3));
+        // 字节相同、区间边界不同
+        Assert.assertNull(cache.get(buffer, 0, 1, 1, 2, 3, 3));
+        Assert.assertNull(cache.get(buffer, 0, 6));
+        buffer.release();
+    }
+}
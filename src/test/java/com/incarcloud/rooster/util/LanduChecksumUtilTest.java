@@ -0,0 +1,86 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * LanduChecksumUtilTest
+ *
+ * @since 2.0
+ */
+public class LanduChecksumUtilTest {
+
+    private static int naiveSum(byte[] bytes, int fromIndex, int toIndex) {
+        int sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += (bytes[i] & 0xFF);
+        }
+        return sum;
+    }
+
+    @Test
+    public void testSumBytes() {
+        Random random = new Random(20170726);
+        byte[] bytes = new byte[4096];
+        random.nextBytes(bytes);
+        // 全部0xFF检查通道溢出
+        byte[] ones = new byte[4096];
+        Arrays.fill(ones, (byte) 0xFF);
+
+        for (int i = 0; i < 200; i++) {
+            int fromIndex = random.nextInt(64);
+            int toIndex = fromIndex + random.nextInt(bytes.length - fromIndex);
+            Assert.assertEquals(naiveSum(bytes, fromIndex, toIndex), LanduChecksumUtil.sum(bytes, fromIndex, toIndex));
+            Assert.assertEquals(naiveSum(ones, fromIndex, toIndex), LanduChecksumUtil.sum(ones, fromIndex, toIndex));
+        }
+    }
+
+    @Test
+    public void testSumByteBuf() {
+        Random random = new Random(20170726);
+        byte[] bytes = new byte[2048];
+        random.nextBytes(bytes);
+
+        ByteBuf heapBuffer = Unpooled.wrappedBuffer(bytes);
+        ByteBuf directBuffer = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+        CompositeByteBuf compositeBuffer = Unpooled.compositeBuffer();
+        compositeBuffer.addComponents(true, Unpooled.wrappedBuffer(bytes, 0, 1000), Unpooled.wrappedBuffer(bytes, 1000, 1048));
+
+        for (int i = 0; i < 100; i++) {
+            int fromIndex = random.nextInt(64);
+            int toIndex = fromIndex + random.nextInt(bytes.length - fromIndex);
+            int expected = naiveSum(bytes, fromIndex, toIndex);
+            Assert.assertEquals(expected, LanduChecksumUtil.sum(heapBuffer, fromIndex, toIndex));
+            Assert.assertEquals(expected, LanduChecksumUtil.sum(directBuffer, fromIndex, toIndex));
+            Assert.assertEquals(expected, LanduChecksumUtil.sum(compositeBuffer, fromIndex, toIndex));
+            // 切片(arrayOffset不为0)
+            ByteBuf slice = heapBuffer.slice(fromIndex, toIndex - fromIndex);
+            Assert.assertEquals(expected, LanduChecksumUtil.sum(slice, 0, slice.capacity()));
+        }
+
+        heapBuffer.release();
+        directBuffer.release();
+        compositeBuffer.release();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSumOutOfBounds() {
+        LanduChecksumUtil.sum(new byte[8], 0, 9);
+    }
+
+    @Test(expected = IllegalReferenceCountException.class)
+    public void testSumReleased() {
+        // 已释放的池化直接内存不按地址读取
+        ByteBuf directBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(64).writeZero(64);
+        directBuffer.release();
+        LanduChecksumUtil.sum(directBuffer, 0, 64);
+    }
+}
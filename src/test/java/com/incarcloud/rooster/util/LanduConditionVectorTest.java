@@ -0,0 +1,126 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataPackCondition;
+import com.incarcloud.rooster.datapack.DataPackObject;
+import com.incarcloud.rooster.datapack.LanduConditionVector;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * LanduConditionVectorTest
+ *
+ * @since 2.0
+ */
+public class LanduConditionVectorTest {
+
+    /**
+     * 逐项解析时的结果：数据项ID，数据值，车况名称，车况数值，车况原始数据
+     */
+    private static final Object[][] CONDITIONS = {
+            {0x0400, "a5", DataPackCondition.CONDITIONNAME_FIRESWITCH, "{fireSwith=5, key=10}", "a5"},
+            {0x0401, "3c", DataPackCondition.CONDITIONNAME_GEARSTATUS, "{level1Gear=3, level2Gear=12}", "3c"},
+            {0x0402, "ff", DataPackCondition.CONDITIONNAME_ANTI_THEFT_MONITOR, "15", "ff"},
+            {0x0403, "81", DataPackCondition.CONDITIONNAME_GEARSTATUS_GEELY_JG, "129", "81"},
+            {0x0410, "e41b", DataPackCondition.CONDITIONNAME_LOCK, "{carLock=0, leftFrontDoorLock=1, leftRearDoorLock=3, rightFrontDoorLock=2, rightRearDoorLock=3}", "e41b"},
+            {0x0411, "93c6", DataPackCondition.CONDITIONNAME_DOOR, "{carDoor=3, engineHood=0, fuelTankCap=3, leftFrontDoor=0, leftRearDoor=2, rightFrontDoor=1, rightRearDoor=2, trunkDoor=1}", "93c6"},
+            {0x0412, "5aa50f", DataPackCondition.CONDITIONNAME_LIGHT, "{backFogLight=3, brakeLight=3, carLight=2, dayRunLight=1, farLight=2, frontFogLight=2, nearLight=1, turnLight=1, warmLight=2, widthLight=1}", "5aa50f"},
+            {0x0413, "0e", DataPackCondition.CONDITIONNAME_TROUBLE_LIGHT, "{esStopLight=3, tpmsTyreLight=2}", "0e"},
+            {0x0414, "390d", DataPackCondition.CONDITIONNAME_WINDOW, "{backWidow=3, leftFrontWindow=1, leftRearWindow=3, rightFrontWindow=2, rightRearWindow=0, topWidow=1}", "390d"},
+            {0x0415, "6c03", DataPackCondition.CONDITIONNAME_SAFETY_BELT, "{driverSafetyBbelt=0, leftRearSafetyBbelt=2, midRearSafetyBbelt=1, rightRearSafetyBbelt=3, viceDriverSafetyBbelt=3}", "6c03"},
+            {0x0416, "00", DataPackCondition.CONDITIONNAME_AIR_CONDITIONER, "{airConditionerAirFanStatus=0, airConditionerRunStatus=0}", "00"},
+            {0x0420, "f00f", DataPackCondition.CONDITIONNAME_OTHER, "{carPlayer=0, clutchStatus=0, cruiseControlBtn=0, driverType=3, rearviewMirror=3, remoteControlSound=3, reverseMonitor=3, seatHeat=0}", "f00f"},
+            {0x0440, "1083", DataPackCondition.CONDITIONNAME_OIL_REMAIN, "{fuelCapacity=784, fuelCapacityUnit=1}", "1083"},
+            {0x0441, "0102", DataPackCondition.CONDITIONNAME_ODOMETER_NUM, "258", "0102"},
+            {0x0442, "4c5356415530333335313233343536373800", DataPackCondition.CONDITIONNAME_VIN, "LSVAU033512345678", "4c5356415530333335313233343536373800"},
+            {0x0443, "0bb8", DataPackCondition.CONDITIONNAME_ROTATE_SPEED, "3000", "0bb8"},
+            {0x0444, "1770", DataPackCondition.CONDITIONNAME_SPEED, "6000", "1770"},
+            {0x0445, "0190", DataPackCondition.CONDITIONNAME_NEDC, "400", "0190"},
+            {0x0446, "2280", DataPackCondition.CONDITIONNAME_AVE_FUEL_CONSUMPTION, "{aveFuelConsumptionUnit=1, fuelCapacity=34}", "2280"},
+            {0x0447, "3301", DataPackCondition.CONDITIONNAME_INSTANT_FUEL_CONSUMPTION, "{fuelCapacity=307, unit=0}", "3301"},
+            {0x0448, "003c", DataPackCondition.CONDITIONNAME_RUN_TIME, "60", "003c"},
+            {0x044A, "eae8", DataPackCondition.CONDITIONNAME_WHEEL_CORNER, "-5400", "eae8"},
+            {0x044B, "0102030405060708", DataPackCondition.CONDITIONNAME_TYRE_SPEED, "{leftFrontTyreSpeed=258, leftRearTyreSpeed=1286, rightFrontTyreSpeed=772, rightRearTyreSpeed=1800}", "0102030405060708"},
+            {0x044D, "09090909", DataPackCondition.CONDITIONNAME_TYRE_PRESSURE, "{leftFrontTyrePressure=0, leftRearTyrePressure=0, rightFrontTyrePressure=0, rightRearTyrePressure=0}", "00000000"},
+            {0x044E, "8001", DataPackCondition.CONDITIONNAME_POWER_ELECTRICITY, "32769", "8001"},
+            {0x044F, "007d", DataPackCondition.CONDITIONNAME_BATTERY_VOLTAGE, "125", "007d"},
+            {0x0470, "90", DataPackCondition.CONDITIONNAME_ELECTRIC_REMIAN, "-112", "90"},
+            {0x0471, "20", DataPackCondition.CONDITIONNAME_GAUN_POSITION, "32", "20"},
+            {0x0472, "30", DataPackCondition.CONDITIONNAME_TAIL_OPEN, "48", "30"},
+            {0x0473, "9010", DataPackCondition.CONDITIONNAME_BRAKE_FORCE, "{brakeForce1=-112, brakeForce2=16}", "9010"},
+            {0x0474, "44", DataPackCondition.CONDITIONNAME_THROTTLE_VALVE, "68", "44"},
+            {0x0480, "21", DataPackCondition.CONDITIONNAME_BRAKE_STATUS, "{brake1Status=2, brake2Status=1}", "21"},
+            {0x0481, "31", DataPackCondition.CONDITIONNAME_VICE_BRAKE_STATUS, "1", "31"},
+            {0x0482, "41", DataPackCondition.CONDITIONNAME_ACCELERATOR_STATUS, "1", "41"},
+            {0x0483, "7f", DataPackCondition.CONDITIONNAME_WINDSCREEN_WIPER, "{frontWindscreenWiper=7, rearWindscreenWiper=15}", "7f"},
+            {0x0484, "01", DataPackCondition.CONDITIONNAME_EV_CHARGER, "1", "01"},
+            {0x0485, "12", DataPackCondition.CONDITIONNAME_CHARGER_STATUS, "2", "12"},
+            {0x0486, "33", DataPackCondition.CONDITIONNAME_RUN_STATUS, "3", "33"},
+            {0x0487, "010203800506", DataPackCondition.CONDITIONNAME_WINDOW_LIFT_LEVEL, "{leftFrontWindowLiftLevel=1, leftRearWindowLiftLevel=3, rightFrontWindowLiftLevel=2, rightRearWindowLiftLevel=-128, tailWindowLiftLevel=6, topWindowLiftLevel=5}", "010203800506"},
+            {0x0488, "01", DataPackCondition.CONDITIONNAME_READY_STATUS, "1", "01"},
+            {0x0489, "00", DataPackCondition.CONDITIONNAME_UPKEEP_STATUS, "0", "00"},
+            {0x048D, "15", DataPackCondition.CONDITIONNAME_AIR_CONDITIONER_FAN_LEVEL, "5", "15"},
+            {0x04A0, "01020304", DataPackCondition.CONDITIONNAME_COSTOM_DATA, "AQID", "010203"}
+    };
+
+    private static LanduConditionVector newConditionVector() {
+        LanduConditionVector conditionVector = new LanduConditionVector(new DataPackObject(new DataPack("china", "landu-ubi", "3.08")));
+        for (Object[] condition : CONDITIONS) {
+            conditionVector.put((Integer) condition[0], Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump((String) condition[1])));
+        }
+        return conditionVector;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String valueOf(Object value) {
+        // Map按键排序后比较
+        return value instanceof Map ? new TreeMap<>((Map<String, Integer>) value).toString() : String.valueOf(value);
+    }
+
+    @Test
+    public void testConditionTable() {
+        LanduConditionVector conditionVector = newConditionVector();
+        Assert.assertEquals(CONDITIONS.length, conditionVector.getItemCount());
+        for (int i = 0; i < CONDITIONS.length; i++) {
+            int itemId = (Integer) CONDITIONS[i][0];
+            Assert.assertEquals(itemId, conditionVector.getItemId(i));
+            Assert.assertEquals(CONDITIONS[i][2], LanduDataClassifyUtil.getConditionName(itemId));
+            Assert.assertEquals(Integer.toHexString(itemId), CONDITIONS[i][3], valueOf(conditionVector.getConditionValue(i)));
+            Assert.assertEquals(Integer.toHexString(itemId), CONDITIONS[i][4], ByteBufUtil.hexDump(conditionVector.getConditionBytes(i)));
+        }
+        Assert.assertEquals(CONDITIONS.length, conditionVector.getConditionList().size());
+        Assert.assertEquals(6000, conditionVector.getIntValue(0x0444));
+    }
+
+    @Test
+    public void testUnknownItem() {
+        LanduConditionVector conditionVector = newConditionVector();
+        conditionVector.put(0x04F0, Unpooled.wrappedBuffer(new byte[]{0x01}));
+        Assert.assertNull(conditionVector.getConditionValue(CONDITIONS.length));
+        Assert.assertNull(conditionVector.getConditionBytes(CONDITIONS.length));
+        Assert.assertEquals(CONDITIONS.length, conditionVector.getConditionList().size());
+    }
+
+    @Test
+    public void testSetConditionList() {
+        LanduConditionVector conditionVector = newConditionVector();
+        List<DataPackCondition.CarCondition> conditionList = conditionVector.getConditionList();
+        Assert.assertSame(conditionList, conditionVector.getConditionList());
+
+        conditionList = new ArrayList<>();
+        conditionVector.setConditionList(conditionList);
+        Assert.assertSame(conditionList, conditionVector.getConditionList());
+
+        // 添加数据项之后重新展开
+        conditionVector.put(0x0444, Unpooled.wrappedBuffer(new byte[]{0x00, 0x10}));
+        Assert.assertEquals(CONDITIONS.length + 1, conditionVector.getConditionList().size());
+        Assert.assertEquals(16, conditionVector.getIntValue(0x0444));
+    }
+}
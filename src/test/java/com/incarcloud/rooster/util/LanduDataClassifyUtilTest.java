@@ -1,8 +1,14 @@
 package com.incarcloud.rooster.util;
 
+import com.incarcloud.rooster.datapack.DataPackCondition;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * LanduDataClassifyUtilTest
  *
@@ -16,4 +22,76 @@ public class LanduDataClassifyUtilTest {
         LanduDataClassifyUtil.Peak peak = LanduDataClassifyUtil.PEAK_MAP.get(0x007D);
         Assert.assertEquals("自发动机起动的时间", peak.getPeakName());
     }
+
+    @Test
+    public void testGetPeak() {
+        Assert.assertSame(LanduDataClassifyUtil.PEAK_MAP.get(0x007D), LanduDataClassifyUtil.getPeak(0x007D));
+        Assert.assertEquals("发动机在怠速点 4 的转矩百分比", LanduDataClassifyUtil.getPeak(0x00CE).getPeakName());
+        Assert.assertNull(LanduDataClassifyUtil.getPeak(0x00CF));
+        Assert.assertNull(LanduDataClassifyUtil.getPeak(0xFFFF));
+        Assert.assertNull(LanduDataClassifyUtil.getPeak(-1));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPeakMapReadOnly() {
+        LanduDataClassifyUtil.PEAK_MAP.remove(0x007D);
+    }
+
+    @Test
+    public void testLoadPeaks() throws IOException {
+        LanduDataClassifyUtil.Peak peak = LanduDataClassifyUtil.getPeak(0x007D);
+        Assert.assertEquals("2.0", LanduDataClassifyUtil.getPeakVersion());
+
+        LanduDataClassifyUtil.loadPeaks(toStream("# version: 2.0-vendor\n0x0F01\t%\t厂商扩展数据\t%.1f，（0~100.0）\n"));
+        Assert.assertEquals("2.0-vendor", LanduDataClassifyUtil.getPeakVersion());
+        Assert.assertEquals("厂商扩展数据", LanduDataClassifyUtil.getPeak(0x0F01).getPeakName());
+        Assert.assertSame(LanduDataClassifyUtil.getPeak(0x0F01), LanduDataClassifyUtil.PEAK_MAP.get(0x0F01));
+        Assert.assertEquals(1, LanduDataClassifyUtil.getPeak(0x0F01).getPeakFormat().getScale());
+        // 原有极值不变
+        Assert.assertSame(peak, LanduDataClassifyUtil.getPeak(0x007D));
+    }
+
+    @Test
+    public void testLoadPeaksIllegal() throws IOException {
+        int size = LanduDataClassifyUtil.PEAK_MAP.size();
+        try {
+            LanduDataClassifyUtil.loadPeaks(toStream("0x0F02\t\t厂商扩展数据\t%d\n0x10000\t\t错误数据\t%d\n"));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // 格式错误时保持当前数据表
+            Assert.assertEquals(size, LanduDataClassifyUtil.PEAK_MAP.size());
+            Assert.assertNull(LanduDataClassifyUtil.getPeak(0x0F02));
+        }
+    }
+
+    @Test
+    public void testLoadConditions() throws IOException {
+        LanduDataClassifyUtil.loadConditions(toStream("# 测试\nCONDITION_TEST\t测试工况\n"));
+        Assert.assertEquals("测试工况", LanduDataClassifyUtil.getConditionDesc("CONDITION_TEST"));
+    }
+
+    @Test
+    public void testConditionTable() throws IOException {
+        Assert.assertEquals(DataPackCondition.CONDITIONNAME_SPEED, LanduDataClassifyUtil.getConditionName(0x0444));
+        Assert.assertNull(LanduDataClassifyUtil.getConditionName(0x04FF));
+        Assert.assertNull(LanduDataClassifyUtil.getConditionName(0x0500));
+        Assert.assertNull(LanduDataClassifyUtil.getConditionDesc(0x03FF));
+
+        // 按槽位读取的描述与按名称读取的描述一致
+        LanduDataClassifyUtil.loadConditions(toStream(DataPackCondition.CONDITIONNAME_TYRE_PRESSURE + "\t胎压\n"));
+        Assert.assertEquals("胎压", LanduDataClassifyUtil.getConditionDesc(0x044D));
+        Assert.assertEquals("胎压", LanduDataClassifyUtil.getConditionDesc(DataPackCondition.CONDITIONNAME_TYRE_PRESSURE));
+        Assert.assertEquals(LanduDataClassifyUtil.getConditionDesc(DataPackCondition.CONDITIONNAME_SPEED), LanduDataClassifyUtil.getConditionDesc(0x0444));
+    }
+
+    @Test
+    public void testConditionDescFallback() {
+        // 没有定义的工况使用DataPackCondition.getConditionDesc
+        Assert.assertEquals(DataPackCondition.getConditionDesc("CONDITION_UNDEFINED"), LanduDataClassifyUtil.getConditionDesc("CONDITION_UNDEFINED"));
+        Assert.assertNull(LanduDataClassifyUtil.getConditionDesc(null));
+    }
+
+    private InputStream toStream(String string) {
+        return new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+    }
 }
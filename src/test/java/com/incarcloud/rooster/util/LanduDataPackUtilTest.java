@@ -1,12 +1,26 @@
 package com.incarcloud.rooster.util;
 
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataPackObject;
+import com.incarcloud.rooster.datapack.DataPackPeak;
+import com.incarcloud.rooster.datapack.DataPackPosition;
+import com.incarcloud.rooster.datapack.LanduPeak;
+import com.incarcloud.rooster.datapack.LanduPeakBatch;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * LanduDataPackUtilTest
  *
@@ -60,4 +74,145 @@ public class LanduDataPackUtilTest {
         Assert.assertEquals(-116.362946, LanduDataPackUtil.parsePositionString("W116.362946"), 0);
         Assert.assertEquals(-40.079099, LanduDataPackUtil.parsePositionString("S40.079099"), 0);
     }
+
+    @Test
+    public void testReadPositionObject() throws Exception {
+        ByteBuf positionBuffer = Unpooled.copiedBuffer("12.5\u0000320\u0000W116.362946,S40.079099,271.5,2014-09-04 16:19:28,2\u0000", StandardCharsets.US_ASCII);
+        DataPackPosition dataPackPosition = LanduDataPackUtil.readPositionObject(positionBuffer, new DataPackObject(new DataPack("china", "landu", "3.08")));
+        Assert.assertEquals(12.5f, dataPackPosition.getSpeed(), 0);
+        Assert.assertTrue(320 == dataPackPosition.getTravelDistance());
+        Assert.assertEquals(-116.362946, dataPackPosition.getLongitude(), 0);
+        Assert.assertEquals(-40.079099, dataPackPosition.getLatitude(), 0);
+        Assert.assertEquals(271.5f, dataPackPosition.getDirection(), 0);
+        Assert.assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2014-09-04 16:19:28"), dataPackPosition.getPositionTime());
+        Assert.assertTrue(2 == dataPackPosition.getPositioMode());
+        Assert.assertFalse(positionBuffer.isReadable());
+        positionBuffer.release();
+    }
+
+    @Test
+    public void testReadAscii() {
+        ByteBuf asciiBuffer = Unpooled.copiedBuffer("13.8\u0000---\u0000-42\u0000\u00000.125\u00001e2\u0000", StandardCharsets.US_ASCII);
+        Assert.assertEquals(13.8f, LanduDataPackUtil.readAsciiFloat(asciiBuffer), 0);
+        Assert.assertTrue(Float.isNaN(LanduDataPackUtil.readAsciiFloat(asciiBuffer)));
+        Assert.assertEquals(-42, LanduDataPackUtil.readAsciiInt(asciiBuffer));
+        Assert.assertEquals(LanduDataPackUtil.ASCII_NULL_INT, LanduDataPackUtil.readAsciiInt(asciiBuffer));
+        Assert.assertEquals(13, LanduDataPackUtil.readAsciiFixedPoint(asciiBuffer, 2));
+        Assert.assertEquals(100, LanduDataPackUtil.readAsciiFixedPoint(asciiBuffer, 0));
+        Assert.assertFalse(asciiBuffer.isReadable());
+        asciiBuffer.release();
+    }
+
+    @Test
+    public void testReadString() throws Exception {
+        Charset gbk = Charset.forName("GBK");
+        ByteBuf bytesBuffer = Unpooled.buffer();
+        bytesBuffer.writeBytes("VIN1234\u0000蓄电池电压\u0000\u0000".getBytes(gbk));
+        // 不完整的GBK字符
+        bytesBuffer.writeBytes(new byte[]{(byte) 0x81, 'A', 'a', 0x00});
+        bytesBuffer.writeBytes("P0201".getBytes(gbk));
+        byte[] bytes = ByteBufUtil.getBytes(bytesBuffer);
+        bytesBuffer.release();
+        ByteBuf[] stringBuffers = {Unpooled.wrappedBuffer(bytes), Unpooled.directBuffer().writeBytes(bytes)};
+        for (ByteBuf stringBuffer : stringBuffers) {
+            Assert.assertEquals("VIN1234", LanduDataPackUtil.readString(stringBuffer));
+            Assert.assertEquals("蓄电池电压", LanduDataPackUtil.readString(stringBuffer));
+            Assert.assertEquals("", LanduDataPackUtil.readString(stringBuffer));
+            Assert.assertEquals(new String(bytes, bytes.length - 9, 3, gbk), LanduDataPackUtil.readString(stringBuffer));
+            Assert.assertEquals("P0201", LanduDataPackUtil.readString(stringBuffer));
+            Assert.assertFalse(stringBuffer.isReadable());
+            stringBuffer.release();
+        }
+    }
+
+    @Test
+    public void testReadIdentity() {
+        ByteBuf identityBuffer = Unpooled.buffer();
+        for (int i = 0; i < 2; i++) {
+            identityBuffer.writeBytes("DEV01\u0000".getBytes(StandardCharsets.US_ASCII)).writeInt(77 + i);
+            identityBuffer.writeBytes("VID\u0000LSVAU033512345678\u0000".getBytes(StandardCharsets.US_ASCII));
+        }
+        identityBuffer.writeBytes("DEV01\u0000".getBytes(StandardCharsets.US_ASCII)).writeInt(79);
+        identityBuffer.writeBytes("VID\u0000lsvau033512345678\u0000".getBytes(StandardCharsets.US_ASCII));
+
+        DataPackObject dataPackObject = new DataPackObject(new DataPack("china", "landu", "3.08"));
+        LanduIdentityCache.Identity identity = LanduDataPackUtil.readIdentity(identityBuffer, dataPackObject);
+        Assert.assertEquals("DEV01", identity.getDeviceId());
+        Assert.assertEquals("VID", identity.getVid());
+        Assert.assertEquals("LSVAU033512345678", identity.getVin());
+        Assert.assertTrue(identity.isVinValid());
+        Assert.assertEquals("LSVAU033512345678", dataPackObject.getVin());
+        Assert.assertSame(identity, LanduDataPackUtil.readIdentity(identityBuffer, dataPackObject));
+        // 只设置校验通过的VIN
+        int index = identityBuffer.readerIndex();
+        Assert.assertFalse(LanduDataPackUtil.readIdentity(identityBuffer, dataPackObject, true).isVinValid());
+        Assert.assertEquals("LSVAU033512345678", dataPackObject.getVin());
+        identityBuffer.readerIndex(index);
+        Assert.assertFalse(LanduDataPackUtil.readIdentity(identityBuffer, dataPackObject).isVinValid());
+        Assert.assertEquals("lsvau033512345678", dataPackObject.getVin());
+        Assert.assertFalse(identityBuffer.isReadable());
+        identityBuffer.release();
+    }
+
+    @Test
+    public void testIsVin() {
+        Assert.assertTrue(LanduDataPackUtil.isVin("LSVAU033512345678"));
+        Assert.assertFalse(LanduDataPackUtil.isVin("LSVAU03351234567"));
+        Assert.assertFalse(LanduDataPackUtil.isVin("LSVAU03351234567a"));
+        Assert.assertFalse(LanduDataPackUtil.isVin("LSVAU03351234567-"));
+        Assert.assertFalse(LanduDataPackUtil.isVin(null));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testReadAsciiIllegal() {
+        LanduDataPackUtil.readAsciiInt(Unpooled.copiedBuffer("12a\u0000", StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testReadPeakBatch() {
+        ByteBuf peakBuffer = Unpooled.buffer();
+        peakBuffer.writeShort(6).writeBytes("100.1\u0000".getBytes(StandardCharsets.US_ASCII));
+        peakBuffer.writeShort(2).writeBytes("开\u0000".getBytes(Charset.forName("GBK")));
+        peakBuffer.writeShort(0xFFFF).writeBytes("---\u0000".getBytes(StandardCharsets.US_ASCII));
+        peakBuffer.writeShort(4).writeBytes("CL".getBytes(StandardCharsets.US_ASCII));
+        LanduPeakBatch peakBatch = LanduDataPackUtil.readPeakBatch(peakBuffer, new DataPackObject(new DataPack("china", "landu", "3.08")), 4);
+
+        Assert.assertFalse(peakBuffer.isReadable());
+        Assert.assertEquals(4, peakBatch.getPeakCount());
+        Assert.assertEquals(6, peakBatch.getPeakId(0));
+        Assert.assertEquals(1001, peakBatch.getValue(0));
+        Assert.assertFalse(peakBatch.isValid(0));
+        Assert.assertEquals("开", peakBatch.getContent(1));
+        Assert.assertEquals(1, peakBatch.getValue(1));
+        Assert.assertTrue(peakBatch.isValid(1));
+        Assert.assertEquals(0xFFFF, peakBatch.getPeakId(2));
+        Assert.assertEquals("---", peakBatch.getContent(2));
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, peakBatch.getValue(2));
+        Assert.assertEquals("CL", peakBatch.getContent(3));
+        Assert.assertEquals(1, peakBatch.getValue(3));
+        Assert.assertEquals(4, peakBatch.getPeakList().size());
+        Assert.assertSame(peakBatch.getPeakList(), peakBatch.getPeakList());
+        peakBuffer.release();
+
+        List<DataPackPeak.Peak> peakList = new ArrayList<>();
+        peakBatch.setPeakList(peakList);
+        Assert.assertSame(peakList, peakBatch.getPeakList());
+    }
+
+    @Test
+    public void testReadPeakBatchTemplate() throws Exception {
+        ByteBuf peakBuffer = Unpooled.buffer();
+        peakBuffer.writeShort(0x0F10).writeBytes("12.5\u0000".getBytes(StandardCharsets.US_ASCII));
+        LanduPeakBatch peakBatch = LanduDataPackUtil.readPeakBatch(peakBuffer, new DataPackObject(new DataPack("china", "landu", "3.08")), 1);
+        peakBuffer.release();
+        Assert.assertNull(peakBatch.getTempatePeak(0));
+        Assert.assertFalse(peakBatch.isValid(0));
+
+        // 解析之后修改极值数据表，不影响已经解析的数据
+        LanduDataClassifyUtil.loadPeaks(new ByteArrayInputStream("0x0F10\tV\t厂商扩展数据\t%.1f\n".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertNotNull(LanduDataClassifyUtil.getPeak(0x0F10));
+        Assert.assertNull(peakBatch.getTempatePeak(0));
+        Assert.assertFalse(peakBatch.isValid(0));
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, ((LanduPeak) peakBatch.getPeakList().get(0)).getValue());
+    }
 }
@@ -0,0 +1,63 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * LanduDateUtilTest
+ *
+ * @since 2.0
+ */
+public class LanduDateUtilTest {
+
+    private DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.CHINA);
+
+    @Test
+    public void testParseMillis() throws ParseException {
+        Assert.assertEquals(dateFormat.parse("2014-09-04 16:19:28").getTime(), LanduDateUtil.parseMillis("2014-09-04 16:19:28"));
+        // 非固定格式交给SimpleDateFormat处理
+        Assert.assertEquals(dateFormat.parse("2014-9-4 16:19:28").getTime(), LanduDateUtil.parseMillis("2014-9-4 16:19:28"));
+        Assert.assertEquals(dateFormat.parse("2014-09-04 24:00:00").getTime(), LanduDateUtil.parseMillis("2014-09-04 24:00:00"));
+        Assert.assertEquals(LanduDateUtil.NULL_TIME, LanduDateUtil.parseMillis(" "));
+    }
+
+    @Test
+    public void testParseMillisByteBuf() throws ParseException {
+        ByteBuf buffer = Unpooled.copiedBuffer("##2017-08-04 15:50:00##", StandardCharsets.US_ASCII);
+        Assert.assertEquals(dateFormat.parse("2017-08-04 15:50:00").getTime(), LanduDateUtil.parseMillis(buffer, 2, 19));
+        Assert.assertEquals(0, buffer.readerIndex());
+        buffer.release();
+    }
+
+    @Test(expected = ParseException.class)
+    public void testParseMillisIllegal() throws ParseException {
+        LanduDateUtil.parseMillis("2017/08/04");
+    }
+
+    @Test
+    public void testFormat() throws ParseException {
+        Random random = new Random(20170804);
+        ByteBuf buffer = Unpooled.buffer(19);
+        for (int i = 0; i < 1000; i++) {
+            // 1990-2040
+            long millis = 631152000000L + (long) (random.nextDouble() * 1577836800000L) / 1000 * 1000;
+            String expected = dateFormat.format(millis);
+            Assert.assertEquals(expected, LanduDateUtil.format(millis));
+            Assert.assertEquals(millis, LanduDateUtil.parseMillis(expected));
+
+            buffer.clear();
+            LanduDateUtil.writeDate(buffer, millis);
+            Assert.assertEquals(expected, buffer.toString(StandardCharsets.US_ASCII));
+        }
+        buffer.release();
+    }
+}
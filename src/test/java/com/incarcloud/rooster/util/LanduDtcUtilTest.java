@@ -0,0 +1,70 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.LanduDtcAlarm;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * LanduDtcUtilTest
+ *
+ * @since 2.0
+ */
+public class LanduDtcUtilTest {
+
+    @Test
+    public void testPack() {
+        Assert.assertEquals(0x0201, LanduDtcUtil.pack("P0201"));
+        Assert.assertEquals(0x4420, LanduDtcUtil.pack("c0420"));
+        Assert.assertEquals(0x9ABC, LanduDtcUtil.pack("B1ABC"));
+        Assert.assertEquals(0xFFFF, LanduDtcUtil.pack("U3FFF"));
+        Assert.assertEquals("P0201", LanduDtcUtil.unpack(LanduDtcUtil.pack("P0201")));
+        Assert.assertEquals("U3FFF", LanduDtcUtil.unpack(0xFFFF));
+        Assert.assertNull(LanduDtcUtil.unpack(LanduDtcUtil.NULL_DTC));
+    }
+
+    @Test
+    public void testPackIllegal() {
+        Assert.assertEquals(LanduDtcUtil.NULL_DTC, LanduDtcUtil.pack(null));
+        Assert.assertEquals(LanduDtcUtil.NULL_DTC, LanduDtcUtil.pack("P020"));
+        Assert.assertEquals(LanduDtcUtil.NULL_DTC, LanduDtcUtil.pack("P4201"));
+        Assert.assertEquals(LanduDtcUtil.NULL_DTC, LanduDtcUtil.pack("X0201"));
+        Assert.assertEquals(LanduDtcUtil.NULL_DTC, LanduDtcUtil.pack("P02G1"));
+    }
+
+    @Test
+    public void testClassify() {
+        int dtc = LanduDtcUtil.pack("P0201");
+        Assert.assertEquals(LanduDtcUtil.SYSTEM_POWERTRAIN, LanduDtcUtil.getSystem(dtc));
+        Assert.assertEquals('P', LanduDtcUtil.getSystemChar(dtc));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(dtc));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("P2201")));
+        Assert.assertFalse(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("B2201")));
+        Assert.assertFalse(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("P1201")));
+        Assert.assertFalse(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("P33FF")));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("P3400")));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("P39FF")));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("B3001")));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("C3001")));
+        Assert.assertTrue(LanduDtcUtil.isGeneric(LanduDtcUtil.pack("U3001")));
+        Assert.assertEquals(LanduDtcUtil.pack("P0200"), LanduDtcUtil.getGroup(LanduDtcUtil.pack("P02FF")));
+        Assert.assertTrue(LanduDtcUtil.inRange(dtc, LanduDtcUtil.pack("P0200"), LanduDtcUtil.pack("P0299")));
+        Assert.assertFalse(LanduDtcUtil.inRange(LanduDtcUtil.NULL_DTC, LanduDtcUtil.NULL_DTC, 0xFFFF));
+        // 不同系统按P、C、B、U排列，与字符串顺序不同
+        Assert.assertTrue(LanduDtcUtil.pack("P3FFF") < LanduDtcUtil.pack("C0000"));
+        Assert.assertTrue(LanduDtcUtil.pack("C3FFF") < LanduDtcUtil.pack("B0000"));
+        Assert.assertTrue(LanduDtcUtil.pack("B3FFF") < LanduDtcUtil.pack("U0000"));
+        Assert.assertTrue(0 < "P0000".compareTo("C0000"));
+    }
+
+    @Test
+    public void testDtcAlarm() {
+        LanduDtcAlarm dtcAlarm = LanduDtcAlarm.valueOf("DTC", "P0201", "1", "喷油器电路");
+        Assert.assertEquals(0x0201, dtcAlarm.getDtc());
+        // 修改故障码时同时更新压缩故障码
+        dtcAlarm.setAlarmCode("U0100");
+        Assert.assertEquals(LanduDtcUtil.pack("U0100"), dtcAlarm.getDtc());
+        Assert.assertEquals(LanduDtcUtil.SYSTEM_NETWORK, dtcAlarm.getDtcSystem());
+        dtcAlarm.setAlarmCode("1234");
+        Assert.assertFalse(dtcAlarm.isStandardDtc());
+    }
+}
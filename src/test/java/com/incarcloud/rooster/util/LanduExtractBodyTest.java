@@ -0,0 +1,109 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataPackDevice;
+import com.incarcloud.rooster.datapack.DataPackPosition;
+import com.incarcloud.rooster.datapack.DataPackTarget;
+import com.incarcloud.rooster.datapack.ERespReason;
+import com.incarcloud.rooster.datapack.DataParserLandu;
+import com.incarcloud.rooster.datapack.DataParserLanduUbi;
+import com.incarcloud.rooster.datapack.ILanduDataParser;
+import com.incarcloud.rooster.datapack.LanduFramer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 单次遍历抽取并解析数据包：解析失败的数据包不添加任何结果
+ *
+ * @since 2.0
+ */
+public class LanduExtractBodyTest {
+
+    private static final String POSITION = "12.5\u0000320\u0000W116.362946,S40.079099,271.5,2014-09-04 16:19:28,2\u0000";
+
+    /**
+     * 创建0x1606位置数据帧
+     *
+     * @param positions 位置数据
+     * @return 数据帧
+     */
+    private static byte[] frame1606(String... positions) {
+        ByteBuf contentBuf = Unpooled.buffer();
+        contentBuf.writeShort(0x1606);
+        contentBuf.writeBytes("DEV01\u0000".getBytes(StandardCharsets.US_ASCII)).writeInt(77);
+        contentBuf.writeBytes("VID\u0000LSVAU033512345678\u0000".getBytes(StandardCharsets.US_ASCII));
+        contentBuf.writeShort(positions.length);
+        for (String position : positions) {
+            contentBuf.writeBytes(position.getBytes(StandardCharsets.US_ASCII));
+        }
+        byte[] content = ByteBufUtil.getBytes(contentBuf);
+        contentBuf.release();
+        return LanduFrames.frame(1, content);
+    }
+
+    /**
+     * 解析失败的数据包 + 正常的数据包
+     */
+    private static void assertFailedFrameDropped(ILanduDataParser parser, byte[] failedFrame, byte[] frame, Class<?> type) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(LanduFrames.concat(failedFrame, frame));
+        List<DataPackTarget> dataPackTargetList = new ArrayList<>();
+        Assert.assertEquals(1, parser.extractBody(buffer, new LanduFramer(), dataPackTargetList));
+        Assert.assertEquals(1, dataPackTargetList.size());
+        Assert.assertEquals(type, dataPackTargetList.get(0).getDataPackObject().getClass());
+        Assert.assertFalse(buffer.isReadable());
+        buffer.release();
+    }
+
+    @Test
+    public void testLandu() {
+        // 第二个位置数据的定位时间错误，已经解析的第一个位置数据也被丢弃
+        assertFailedFrameDropped(new DataParserLandu(),
+                frame1606(POSITION, POSITION.replace("2014-09-04 16:19:28", "2014-09-04")),
+                frame1606(POSITION), DataPackPosition.class);
+    }
+
+    @Test
+    public void testLanduMalformed() {
+        // 数值格式错误(RuntimeException)
+        assertFailedFrameDropped(new DataParserLandu(),
+                frame1606(POSITION, POSITION.replace("12.5", "1x.5")),
+                frame1606(POSITION), DataPackPosition.class);
+    }
+
+    @Test
+    public void testLanduUbi() {
+        // 0x1620数据项长度超出数据内容
+        byte[] failedContent = ByteBufUtil.decodeHexDump("1620"
+                + ByteBufUtil.hexDump("DEV01\u0000".getBytes(StandardCharsets.US_ASCII)) + "0000004d"
+                + ByteBufUtil.hexDump("VID\u0000LSVAU033512345678\u00002017-08-04 15:50:00\u0000".getBytes(StandardCharsets.US_ASCII))
+                + "00010004" + "040009" + "21");
+        byte[] content = ByteBufUtil.decodeHexDump("1603"
+                + ByteBufUtil.hexDump("DEV01\u0000".getBytes(StandardCharsets.US_ASCII)) + "0000004d"
+                + ByteBufUtil.hexDump("VID\u0000LSVAU033512345678\u0000HW\u0000FW\u0000SW\u0000".getBytes(StandardCharsets.US_ASCII))
+                + "0102");
+        assertFailedFrameDropped(new DataParserLanduUbi(), LanduFrames.frame(1, failedContent), LanduFrames.frame(2, content),
+                DataPackDevice.class);
+    }
+
+    @Test
+    public void testReplacedBufRevalidated() {
+        byte[] frame = frame1606(POSITION);
+        DataParserLandu parser = new DataParserLandu();
+        List<DataPack> dataPackList = parser.extract(Unpooled.wrappedBuffer(frame));
+        Assert.assertEquals(1, dataPackList.size());
+        DataPack dataPack = dataPackList.get(0);
+
+        // 替换为校验和错误的数据之后不再跳过校验
+        frame[frame.length - 1]++;
+        dataPack.setBuf(Unpooled.wrappedBuffer(frame));
+        Assert.assertNull(parser.extractBody(dataPack));
+        Assert.assertNull(parser.createResponse(dataPack, ERespReason.OK));
+    }
+}
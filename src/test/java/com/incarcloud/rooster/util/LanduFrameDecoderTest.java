@@ -0,0 +1,62 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataParserLandu;
+import com.incarcloud.rooster.datapack.LanduFrameDecoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * LanduFrameDecoderTest
+ *
+ * @since 2.0
+ */
+public class LanduFrameDecoderTest {
+
+    @Test
+    public void testRetainedFrame() {
+        byte[] frame1 = LanduFrames.frameOfLength(1, 212);
+        byte[] frame2 = LanduFrames.frameOfLength(2, 40);
+        EmbeddedChannel channel = new EmbeddedChannel(new LanduFrameDecoder(new DataParserLandu(), false));
+
+        // 第1个数据帧之后是第2个数据帧的前20个字节，读取位置超过容量的一半
+        ByteBuf buffer = Unpooled.buffer(256);
+        buffer.writeBytes(frame1).writeBytes(frame2, 0, 20);
+        Assert.assertTrue(channel.writeInbound(buffer));
+        DataPack dataPack1 = channel.readInbound();
+        Assert.assertArrayEquals(frame1, dataPack1.getDataBytes());
+        Assert.assertNull(channel.readInbound());
+
+        // 后续数据到达后，第1个数据包的内容不会被覆盖
+        Assert.assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(frame2, 20, frame2.length - 20)));
+        DataPack dataPack2 = channel.readInbound();
+        Assert.assertArrayEquals(frame2, dataPack2.getDataBytes());
+        Assert.assertArrayEquals(frame1, dataPack1.getDataBytes());
+
+        // 后续的ChannelHandler释放数据包后，累积缓冲区全部释放
+        dataPack1.freeBuf();
+        dataPack2.freeBuf();
+        Assert.assertFalse(channel.finish());
+        Assert.assertEquals(0, buffer.refCnt());
+    }
+
+    @Test
+    public void testAutoResponse() {
+        EmbeddedChannel channel = new EmbeddedChannel(new LanduFrameDecoder(new DataParserLandu()));
+        byte[] bytes = LanduFrames.concat(LanduFrames.frameOfLength(3, 30), LanduFrames.frameOfLength(4, 30));
+        Assert.assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(bytes)));
+
+        for (int packId = 3; packId <= 4; packId++) {
+            DataPack dataPack = channel.readInbound();
+            ByteBuf responseBuf = channel.readOutbound();
+            Assert.assertEquals(packId, responseBuf.getByte(6));
+            Assert.assertEquals(0x1601, responseBuf.getUnsignedShort(8));
+            responseBuf.release();
+            dataPack.freeBuf();
+        }
+        Assert.assertFalse(channel.finish());
+    }
+}
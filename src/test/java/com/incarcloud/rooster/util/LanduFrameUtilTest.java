@@ -0,0 +1,49 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * LanduFrameUtilTest
+ *
+ * @since 2.0
+ */
+public class LanduFrameUtilTest {
+
+    @Test
+    public void testIndexOfSyncWord() {
+        byte[] bytes = new byte[64];
+        ByteBuf buffer = Unpooled.wrappedBuffer(bytes);
+        Assert.assertEquals(-1, LanduFrameUtil.indexOfSyncWord(buffer, 0, bytes.length));
+
+        // 每个位置都要能找到，包括跨8字节边界的位置
+        for (int i = 0; i < bytes.length - 1; i++) {
+            bytes[i] = (byte) 0xAA;
+            bytes[i + 1] = 0x55;
+            Assert.assertEquals(i, LanduFrameUtil.indexOfSyncWord(buffer, 0, bytes.length));
+            bytes[i] = 0x00;
+            bytes[i + 1] = 0x00;
+        }
+        buffer.release();
+    }
+
+    @Test
+    public void testIndexOfSyncWordFalseCandidate() {
+        byte[] bytes = {(byte) 0xAA, (byte) 0xAA, 0x54, 0x55, (byte) 0xAB, 0x55, 0x00, (byte) 0xAA, 0x00, 0x55, (byte) 0xAA, 0x55};
+        ByteBuf buffer = Unpooled.wrappedBuffer(bytes);
+        Assert.assertEquals(10, LanduFrameUtil.indexOfSyncWord(buffer, 0, bytes.length));
+        Assert.assertEquals(-1, LanduFrameUtil.indexOfSyncWord(buffer, 0, bytes.length - 1));
+        buffer.release();
+    }
+
+    @Test
+    public void testSkipToSyncWord() {
+        ByteBuf buffer = Unpooled.wrappedBuffer(new byte[]{0x01, 0x02, 0x03, (byte) 0xAA});
+        Assert.assertFalse(LanduFrameUtil.skipToSyncWord(buffer));
+        // 最后一个字节可能是被拆开的AA，需要保留
+        Assert.assertEquals(3, buffer.readerIndex());
+        buffer.release();
+    }
+}
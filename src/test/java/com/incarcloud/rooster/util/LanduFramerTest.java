@@ -0,0 +1,185 @@
+package com.incarcloud.rooster.util;
+
+import com.incarcloud.rooster.datapack.DataPack;
+import com.incarcloud.rooster.datapack.DataParserLandu;
+import com.incarcloud.rooster.datapack.LanduFramer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LanduFramerTest
+ *
+ * @since 2.0
+ */
+public class LanduFramerTest {
+
+    private ByteBuf buffer;
+
+    private List<byte[]> frames;
+
+    private LanduFramer.FrameListener listener;
+
+    @Before
+    public void begin() {
+        buffer = Unpooled.buffer();
+        frames = new ArrayList<>();
+        listener = new LanduFramer.FrameListener() {
+            @Override
+            public void onFrame(ByteBuf frameBuffer, int offset, int length) {
+                frames.add(ByteBufUtil.getBytes(frameBuffer, offset, length));
+            }
+        };
+    }
+
+    @After
+    public void end() {
+        buffer.release();
+    }
+
+    @Test
+    public void testByteAtATime() {
+        byte[] frame1 = LanduFrames.frameOfLength(1, 40);
+        byte[] frame2 = LanduFrames.frameOfLength(2, 25);
+        byte[] bytes = LanduFrames.concat(new byte[]{0x01, (byte) 0xAA}, frame1, new byte[]{0x55, (byte) 0xAA}, frame2);
+
+        LanduFramer framer = new LanduFramer();
+        for (byte b : bytes) {
+            buffer.writeByte(b);
+            framer.frame(buffer, listener);
+        }
+        Assert.assertEquals(2, frames.size());
+        Assert.assertArrayEquals(frame1, frames.get(0));
+        Assert.assertArrayEquals(frame2, frames.get(1));
+        Assert.assertFalse(framer.hasPendingFrame());
+        Assert.assertFalse(buffer.isReadable());
+    }
+
+    @Test
+    public void testSplitInChecksum() {
+        byte[] frame = LanduFrames.frameOfLength(3, 30);
+        LanduFramer framer = new LanduFramer();
+
+        // 校验和只到达1个字节
+        buffer.writeBytes(frame, 0, frame.length - 1);
+        framer.frame(buffer, listener);
+        Assert.assertTrue(frames.isEmpty());
+        Assert.assertTrue(framer.hasPendingFrame());
+
+        buffer.writeByte(frame[frame.length - 1]);
+        framer.frame(buffer, listener);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertArrayEquals(frame, frames.get(0));
+        Assert.assertFalse(framer.hasPendingFrame());
+    }
+
+    @Test
+    public void testSplitInBadChecksum() {
+        byte[] frame = LanduFrames.frameOfLength(4, 30);
+        byte[] next = LanduFrames.frameOfLength(5, 20);
+        LanduFramer framer = new LanduFramer();
+
+        buffer.writeBytes(frame, 0, frame.length - 1);
+        framer.frame(buffer, listener);
+        // 校验和错误，跳过错误的数据帧后找到下一个数据帧
+        buffer.writeByte(frame[frame.length - 1] + 1);
+        buffer.writeBytes(next);
+        framer.frame(buffer, listener);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertArrayEquals(next, frames.get(0));
+    }
+
+    @Test
+    public void testReset() {
+        byte[] frame = LanduFrames.frameOfLength(6, 50);
+        LanduFramer framer = new LanduFramer();
+
+        buffer.writeBytes(frame, 0, 20);
+        framer.frame(buffer, listener);
+        Assert.assertTrue(framer.hasPendingFrame());
+
+        // 重置之后重新校验数据包头和累加校验和
+        framer.reset();
+        Assert.assertFalse(framer.hasPendingFrame());
+        buffer.writeBytes(frame, 20, frame.length - 20);
+        framer.frame(buffer, listener);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertArrayEquals(frame, frames.get(0));
+
+        // 缓冲区被外部清空之后重新开始
+        buffer.writeBytes(frame, 0, 20);
+        framer.frame(buffer, listener);
+        buffer.clear();
+        framer.reset();
+        buffer.writeBytes(frame);
+        framer.frame(buffer, listener);
+        Assert.assertEquals(2, frames.size());
+        Assert.assertArrayEquals(frame, frames.get(1));
+    }
+
+    /**
+     * 误判的数据包头(声明长度1024) + 完整有效的数据帧
+     */
+    private static byte[] falseHeaderBytes(byte[] frame) {
+        return LanduFrames.concat(new byte[]{(byte) 0xAA, 0x55, 0x04, 0x00, (byte) 0xFB, (byte) 0xFF, 0x01, 0x05}, frame);
+    }
+
+    @Test
+    public void testFalseHeader() {
+        byte[] frame = LanduFrames.frameOfLength(7, 30);
+        buffer.writeBytes(falseHeaderBytes(frame));
+
+        // 不检查时等待误判的数据帧
+        LanduFramer framer = new LanduFramer(LanduFramer.MAX_FRAME_LENGTH, true);
+        framer.frame(buffer, listener);
+        Assert.assertTrue(frames.isEmpty());
+        Assert.assertTrue(framer.hasPendingFrame());
+
+        framer = new LanduFramer(LanduFramer.MAX_FRAME_LENGTH, true, LanduFramer.MAX_FRAME_LENGTH);
+        framer.frame(buffer, listener);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertArrayEquals(frame, frames.get(0));
+        Assert.assertEquals(1, framer.getFalseHeaderCount());
+        Assert.assertFalse(framer.hasPendingFrame());
+    }
+
+    @Test
+    public void testFalseHeaderByteAtATime() {
+        byte[] frame = LanduFrames.frameOfLength(8, 30);
+        LanduFramer framer = new LanduFramer(LanduFramer.MAX_FRAME_LENGTH, true, LanduFramer.MAX_FRAME_LENGTH);
+        for (byte b : falseHeaderBytes(frame)) {
+            buffer.writeByte(b);
+            framer.frame(buffer, listener);
+        }
+        Assert.assertEquals(1, frames.size());
+        Assert.assertArrayEquals(frame, frames.get(0));
+        Assert.assertEquals(1, framer.getFalseHeaderCount());
+    }
+
+    @Test
+    public void testSplitFrameContainingFrame() {
+        // 0x1605透传数据中包含完整有效的数据帧
+        byte[] frame = LanduFrames.frame(9, LanduFrames.concat(new byte[]{0x16, 0x05}, LanduFrames.frameOfLength(10, 20)));
+        buffer.writeBytes(frame, 0, frame.length - 5);
+
+        // 默认不检查误判的数据包头，分段到达的数据帧不会被丢弃
+        List<DataPack> dataPackList = new DataParserLandu().extract(buffer);
+        Assert.assertTrue(dataPackList.isEmpty());
+        Assert.assertEquals(0, buffer.readerIndex());
+
+        buffer.writeBytes(frame, frame.length - 5, 5);
+        dataPackList = new DataParserLandu().extract(buffer);
+        Assert.assertEquals(1, dataPackList.size());
+        Assert.assertFalse(buffer.isReadable());
+        for (DataPack dataPack : dataPackList) {
+            dataPack.freeBuf();
+        }
+    }
+}
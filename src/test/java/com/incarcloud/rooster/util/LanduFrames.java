@@ -0,0 +1,73 @@
+package com.incarcloud.rooster.util;
+
+/**
+ * 测试用LANDU数据帧
+ *
+ * @since 2.0
+ */
+final class LanduFrames {
+
+    /**
+     * 创建完整有效的数据帧(协议格式版本v3.08)
+     *
+     * @param packId 数据包ID
+     * @param content 数据内容(命令字 + 数据)
+     * @return 数据帧
+     */
+    static byte[] frame(int packId, byte[] content) {
+        int length = content.length + 8;
+        byte[] bytes = new byte[length + 2];
+        bytes[0] = (byte) 0xAA;
+        bytes[1] = 0x55;
+        bytes[2] = (byte) (length >> 8);
+        bytes[3] = (byte) length;
+        bytes[4] = (byte) ~bytes[2];
+        bytes[5] = (byte) ~bytes[3];
+        bytes[6] = (byte) packId;
+        bytes[7] = 0x05;
+        System.arraycopy(content, 0, bytes, 8, content.length);
+        int sum = LanduChecksumUtil.sum(bytes, 2, length);
+        bytes[length] = (byte) (sum >> 8);
+        bytes[length + 1] = (byte) sum;
+        return bytes;
+    }
+
+    /**
+     * 创建指定总长度的数据帧，数据内容为命令字0x1601和填充字节
+     *
+     * @param packId 数据包ID
+     * @param frameLength 数据帧总长度
+     * @return 数据帧
+     */
+    static byte[] frameOfLength(int packId, int frameLength) {
+        byte[] content = new byte[frameLength - 10];
+        content[0] = 0x16;
+        content[1] = 0x01;
+        for (int i = 2; i < content.length; i++) {
+            content[i] = (byte) (i * 7 + packId);
+        }
+        return frame(packId, content);
+    }
+
+    /**
+     * 连接多个字节数组
+     *
+     * @param parts 字节数组
+     * @return
+     */
+    static byte[] concat(byte[]... parts) {
+        int total = 0;
+        for (byte[] part : parts) {
+            total += part.length;
+        }
+        byte[] bytes = new byte[total];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, bytes, offset, part.length);
+            offset += part.length;
+        }
+        return bytes;
+    }
+
+    private LanduFrames() {}
+}
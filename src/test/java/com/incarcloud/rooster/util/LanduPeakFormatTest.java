@@ -0,0 +1,71 @@
+package com.incarcloud.rooster.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * LanduPeakFormatTest
+ *
+ * @since 2.0
+ */
+public class LanduPeakFormatTest {
+
+    @Test
+    public void testFixedPoint() {
+        LanduPeakFormat peakFormat = LanduPeakFormat.compile("%.1f，（0~100.0）");
+        Assert.assertEquals(LanduPeakFormat.Type.FIXED_POINT, peakFormat.getType());
+        Assert.assertEquals(1, peakFormat.getScale());
+        Assert.assertEquals(0, peakFormat.getMin());
+        Assert.assertEquals(1000, peakFormat.getMax());
+
+        Assert.assertEquals(123, peakFormat.parse("12.3"));
+        Assert.assertEquals(120, peakFormat.parse("12"));
+        Assert.assertEquals(124, peakFormat.parse("12.35"));
+        Assert.assertEquals(-5, peakFormat.parse("-0.5"));
+        Assert.assertTrue(peakFormat.isValid(peakFormat.parse("100.0")));
+        Assert.assertFalse(peakFormat.isValid(peakFormat.parse("100.1")));
+        Assert.assertFalse(peakFormat.isValid(peakFormat.parse("-0.5")));
+    }
+
+    @Test
+    public void testInt() {
+        LanduPeakFormat peakFormat = LanduPeakFormat.compile("%d，（-40~215）");
+        Assert.assertEquals(LanduPeakFormat.Type.INT, peakFormat.getType());
+        Assert.assertEquals(0, peakFormat.getScale());
+        Assert.assertEquals(-40, peakFormat.parse("-40"));
+        Assert.assertTrue(peakFormat.isValid(peakFormat.parse("215")));
+        Assert.assertFalse(peakFormat.isValid(peakFormat.parse("216")));
+    }
+
+    @Test
+    public void testEnum() {
+        LanduPeakFormat peakFormat = LanduPeakFormat.compile("%s，（关 开）");
+        Assert.assertEquals(LanduPeakFormat.Type.ENUM, peakFormat.getType());
+        Assert.assertEquals(0, peakFormat.parse("关"));
+        Assert.assertEquals(1, peakFormat.parse("开"));
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, peakFormat.parse("半开"));
+
+        peakFormat = LanduPeakFormat.compile("%s，（[---] [EURO C]）");
+        Assert.assertEquals(LanduPeakFormat.Type.ENUM, peakFormat.getType());
+        Assert.assertEquals(1, peakFormat.parse("EURO C"));
+        Assert.assertTrue(peakFormat.isValid(peakFormat.parse("---")));
+    }
+
+    @Test
+    public void testString() {
+        Assert.assertEquals(LanduPeakFormat.Type.STRING, LanduPeakFormat.compile("%s，（A B …）").getType());
+        Assert.assertEquals(LanduPeakFormat.Type.STRING, LanduPeakFormat.compile("%s").getType());
+        Assert.assertEquals(LanduPeakFormat.Type.STRING, LanduPeakFormat.compile(null).getType());
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, LanduPeakFormat.compile("%s").parse("ABC"));
+    }
+
+    @Test
+    public void testParseIllegal() {
+        LanduPeakFormat peakFormat = LanduPeakFormat.compile("%.2f");
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, peakFormat.parse(""));
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, peakFormat.parse("---"));
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, peakFormat.parse("1.2.3"));
+        Assert.assertEquals(LanduPeakFormat.NULL_VALUE, peakFormat.parse(null));
+        Assert.assertFalse(peakFormat.isValid(LanduPeakFormat.NULL_VALUE));
+    }
+}
@@ -0,0 +1,51 @@
+package com.incarcloud.rooster.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+
+/**
+ * LanduStringCacheTest
+ *
+ * @since 2.0
+ */
+public class LanduStringCacheTest {
+
+    @Test
+    public void testGet() {
+        LanduStringCache stringCache = new LanduStringCache(16, 64);
+        ByteBuf buffer = Unpooled.copiedBuffer("P0201\u0000喷油器电路故障\u0000P0201\u0000喷油器电路故障\u0000", Charset.forName("GBK"));
+
+        String code = read(stringCache, buffer);
+        String desc = read(stringCache, buffer);
+        Assert.assertEquals("P0201", code);
+        Assert.assertEquals("喷油器电路故障", desc);
+        Assert.assertSame(code, read(stringCache, buffer));
+        Assert.assertSame(desc, read(stringCache, buffer));
+        buffer.release();
+    }
+
+    @Test
+    public void testEvict() {
+        LanduStringCache stringCache = new LanduStringCache(1, 4);
+        ByteBuf buffer = Unpooled.copiedBuffer("P0201P0300", Charset.forName("US-ASCII"));
+
+        String first = stringCache.get(buffer, 0, 4);
+        Assert.assertEquals("P020", first);
+        Assert.assertEquals("P030", stringCache.get(buffer, 5, 4));
+        Assert.assertNotSame(first, stringCache.get(buffer, 0, 4));
+        // 超过最大字节数不缓存
+        Assert.assertNotSame(stringCache.get(buffer, 0, 5), stringCache.get(buffer, 0, 5));
+        buffer.release();
+    }
+
+    private static String read(LanduStringCache stringCache, ByteBuf buffer) {
+        int end = buffer.indexOf(buffer.readerIndex(), buffer.writerIndex(), (byte) 0x00);
+        String string = stringCache.get(buffer, buffer.readerIndex(), end - buffer.readerIndex());
+        buffer.readerIndex(end + 1);
+        return string;
+    }
+}
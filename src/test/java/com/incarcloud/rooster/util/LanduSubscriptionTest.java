@@ -0,0 +1,43 @@
+package com.incarcloud.rooster.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * LanduSubscriptionTest
+ *
+ * @since 2.0
+ */
+public class LanduSubscriptionTest {
+
+    @Test
+    public void testOf() {
+        LanduSubscription subscription = LanduSubscription.of(0x1601, 0x1608);
+        Assert.assertTrue(subscription.isSubscribed(0x1601));
+        Assert.assertTrue(subscription.isSubscribed(0x1608));
+        Assert.assertFalse(subscription.isSubscribed(0x1605));
+        Assert.assertFalse(subscription.isSubscribed(-1));
+        Assert.assertFalse(subscription.isSubscribed(0x10000));
+    }
+
+    @Test
+    public void testRange() {
+        LanduSubscription subscription = LanduSubscription.ALL.without(0x0A01);
+        Assert.assertTrue(subscription.isSubscribed(0x0000));
+        Assert.assertTrue(subscription.isSubscribed(0xFFFF));
+        Assert.assertFalse(subscription.isSubscribed(0x0A01));
+        // 原订阅不变
+        Assert.assertTrue(LanduSubscription.ALL.isSubscribed(0x0A01));
+
+        subscription = LanduSubscription.NONE.withRange(0x0602, 0x0609).with(0x0E00);
+        Assert.assertTrue(subscription.isSubscribed(0x0602));
+        Assert.assertTrue(subscription.isSubscribed(0x0609));
+        Assert.assertTrue(subscription.isSubscribed(0x0E00));
+        Assert.assertFalse(subscription.isSubscribed(0x0400));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalId() {
+        LanduSubscription.of(0x10000);
+    }
+}